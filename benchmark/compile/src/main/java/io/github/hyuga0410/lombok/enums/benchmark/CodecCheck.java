@@ -0,0 +1,185 @@
+package io.github.hyuga0410.lombok.enums.benchmark;
+
+import javax.tools.JavaFileObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * 枚举字段编解码检查
+ * <p>
+ * 编译类上标注{@code @EnumDesc(codec = true)}、包含{@value #SMALL_FIELDS}个小枚举字段及1个常量多于128个的枚举字段的DTO，
+ * 加载后逐项检查：
+ * <br>
+ * - 全部为null、全部非null、每次只有一个字段为null等组合encodeEnums后decodeEnums，字段值一致且恰好读完（null位图超过8个字段，覆盖第二个字节） <br>
+ * - ordinal不小于128的常量按2字节varint往返 <br>
+ * - 枚举调整常量顺序后，以原顺序编码的数据解码时抛出IllegalStateException：DTO与枚举一起重新编译，以及只替换枚举的字节码两种情况
+ * <p>
+ * 无参数，任一检查失败时以状态码1退出。
+ * 例如：{@code mvn -f benchmark/compile/pom.xml compile exec:java -Dexec.mainClass=io.github.hyuga0410.lombok.enums.benchmark.CodecCheck}
+ *
+ * @since 2026/10/17
+ */
+public class CodecCheck {
+
+    private static final int SMALL_FIELDS = 10;
+    private static final int LARGE_CONSTANTS = 200;
+    private static final String DTO = SyntheticSources.PACKAGE + ".CodecDto";
+    private static final String SMALL_ENUM = SyntheticSources.PACKAGE + ".CodecColor";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            throw new IllegalArgumentException("无法识别的参数：" + args[0]);
+        }
+        List<String> failures = new ArrayList<>();
+
+        Map<String, byte[]> original = compile("RED", "GREEN", "BLUE");
+        Class<?> dto = load(original, Map.of()).loadClass(DTO);
+        int roundTrips = 0;
+        for (Object[] values : patterns(dto)) {
+            roundTrip(dto, values, failures);
+            roundTrips++;
+        }
+
+        Object[] values = patterns(dto).get(1);
+        ByteBuffer encoded = encode(dto, values);
+        Map<String, byte[]> reordered = compile("BLUE", "RED", "GREEN");
+        expectMismatch("recompiled", load(reordered, Map.of()).loadClass(DTO), encoded, failures);
+        // DTO使用原来的字节码，只替换枚举
+        expectMismatch("enumOnly", load(original, Map.of(SMALL_ENUM, reordered.get(SMALL_ENUM))).loadClass(DTO), encoded, failures);
+
+        System.out.printf("fields=%d, roundTrips=%d, failures=%d%n", SMALL_FIELDS + 1, roundTrips, failures.size());
+        failures.forEach(failure -> System.out.println("  " + failure));
+        if (!failures.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 编译枚举及DTO，小枚举的常量按指定顺序声明
+     */
+    private static Map<String, byte[]> compile(String... colors) {
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < LARGE_CONSTANTS; i++) {
+            large.append(i == 0 ? "" : ", ").append('C').append(i);
+        }
+        StringBuilder fields = new StringBuilder();
+        for (int i = 0; i < SMALL_FIELDS; i++) {
+            fields.append("    private CodecColor color").append(i).append(";\n");
+        }
+        List<JavaFileObject> sources = List.of(
+                SyntheticSources.source("CodecColor", "package " + SyntheticSources.PACKAGE + ";\n\n"
+                        + "public enum CodecColor {\n    " + String.join(", ", colors) + ";\n\n"
+                        + "    public String getDesc() {\n        return name();\n    }\n}\n"),
+                SyntheticSources.source("CodecLarge", "package " + SyntheticSources.PACKAGE + ";\n\n"
+                        + "public enum CodecLarge {\n    " + large + ";\n\n"
+                        + "    public String getDesc() {\n        return name();\n    }\n}\n"),
+                SyntheticSources.source("CodecDto", "package " + SyntheticSources.PACKAGE + ";\n\n"
+                        + "import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;\n\n"
+                        + "@EnumDesc(codec = true)\n"
+                        + "public class CodecDto {\n\n" + fields + "    private CodecLarge large;\n}\n"));
+        return new Compilation(sources, List.of()).run(true).classes();
+    }
+
+    /**
+     * 以内存中的字节码创建类加载器，replaced中的类替换对应的字节码
+     */
+    private static ClassLoader load(Map<String, byte[]> classes, Map<String, byte[]> replaced) {
+        Map<String, byte[]> bytes = new HashMap<>(classes);
+        bytes.putAll(replaced);
+        return new ClassLoader(CodecCheck.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] b = bytes.get(name);
+                if (b == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, b, 0, b.length);
+            }
+        };
+    }
+
+    /**
+     * 字段值组合：全部为null、全部非null、每次只有一个字段为null，最后一个字段为大枚举，使用ordinal不小于128的常量
+     */
+    private static List<Object[]> patterns(Class<?> dto) {
+        List<Field> fields = enumFields(dto);
+        Object[] full = new Object[fields.size()];
+        for (int i = 0; i < full.length; i++) {
+            Object[] constants = fields.get(i).getType().getEnumConstants();
+            full[i] = constants[constants.length == LARGE_CONSTANTS ? LARGE_CONSTANTS - 1 - i : i % constants.length];
+        }
+        List<Object[]> patterns = new ArrayList<>();
+        patterns.add(new Object[full.length]);
+        patterns.add(full);
+        for (int i = 0; i < full.length; i++) {
+            Object[] values = full.clone();
+            values[i] = null;
+            patterns.add(values);
+        }
+        return patterns;
+    }
+
+    private static void roundTrip(Class<?> dto, Object[] values, List<String> failures) throws ReflectiveOperationException {
+        ByteBuffer in = encode(dto, values);
+        Object decoded = dto.getConstructor().newInstance();
+        dto.getMethod("decodeEnums", ByteBuffer.class).invoke(decoded, in);
+        Object[] actual = read(decoded);
+        if (!Arrays.equals(values, actual) || in.hasRemaining()) {
+            failures.add(String.format("roundTrip: expected %s but was %s, remaining=%d",
+                    Arrays.toString(values), Arrays.toString(actual), in.remaining()));
+        }
+    }
+
+    private static ByteBuffer encode(Class<?> dto, Object[] values) throws ReflectiveOperationException {
+        Object source = dto.getConstructor().newInstance();
+        List<Field> fields = enumFields(dto);
+        for (int i = 0; i < values.length; i++) {
+            fields.get(i).set(source, values[i]);
+        }
+        ByteBuffer out = ByteBuffer.allocate(64);
+        dto.getMethod("encodeEnums", ByteBuffer.class).invoke(source, out);
+        return out.flip();
+    }
+
+    /**
+     * 以原顺序编码的数据解码，应抛出IllegalStateException
+     */
+    private static void expectMismatch(String name, Class<?> dto, ByteBuffer encoded, List<String> failures)
+            throws ReflectiveOperationException {
+        try {
+            dto.getMethod("decodeEnums", ByteBuffer.class).invoke(dto.getConstructor().newInstance(), encoded.duplicate());
+            failures.add(name + ": reordered enum decoded without IllegalStateException");
+        } catch (InvocationTargetException e) {
+            if (!(e.getCause() instanceof IllegalStateException)) {
+                failures.add(name + ": expected IllegalStateException but was " + e.getCause());
+            }
+        }
+    }
+
+    private static Object[] read(Object dto) throws IllegalAccessException {
+        List<Field> fields = enumFields(dto.getClass());
+        Object[] values = new Object[fields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = fields.get(i).get(dto);
+        }
+        return values;
+    }
+
+    /**
+     * 按声明顺序的枚举字段
+     */
+    private static List<Field> enumFields(Class<?> dto) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : dto.getDeclaredFields()) {
+            if (field.getType().isEnum()) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+}
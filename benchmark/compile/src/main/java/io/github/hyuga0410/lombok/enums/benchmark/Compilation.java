@@ -0,0 +1,129 @@
+package io.github.hyuga0410.lombok.enums.benchmark;
+
+import com.sun.source.util.JavacTask;
+import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
+import io.github.hyuga0410.lombok.enums.processor.AnnotationProcessor;
+
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 进程内编译
+ * <p>
+ * 通过{@link javax.tools.JavaCompiler}在当前线程中编译内存源码，可选择是否启用{@link AnnotationProcessor}，
+ * 并记录耗时、处理器耗时、当前线程分配的字节数以及编译产物。
+ *
+ * @since 2026/10/17
+ */
+public class Compilation {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    private final List<JavaFileObject> sources;
+    private final List<String> processorOptions;
+
+    /**
+     * @param sources          待编译的源码
+     * @param processorOptions 启用处理器时额外传入的-A参数，如 {@code -Akey=value}
+     */
+    public Compilation(List<JavaFileObject> sources, List<String> processorOptions) {
+        this.sources = sources;
+        this.processorOptions = processorOptions;
+    }
+
+    /**
+     * 编译一次
+     *
+     * @param withProcessor 是否启用AnnotationProcessor
+     * @return 编译结果
+     */
+    public Result run(boolean withProcessor) {
+        return run(withProcessor ? new AnnotationProcessor() : null);
+    }
+
+    /**
+     * 使用指定的处理器编译一次
+     *
+     * @param delegate 处理器，为null时不执行注解处理
+     * @return 编译结果
+     */
+    public Result run(Processor delegate) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager standardFileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        InMemoryFileManager fileManager = new InMemoryFileManager(standardFileManager);
+
+        List<String> options = new ArrayList<>();
+        options.add("-classpath");
+        options.add(componentClasspath());
+        options.add("-implicit:none");
+        if (delegate != null) {
+            options.addAll(processorOptions);
+        } else {
+            options.add("-proc:none");
+        }
+
+        TimedProcessor processor = null;
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        JavacTask task = (JavacTask) compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+        if (delegate != null) {
+            processor = new TimedProcessor(delegate);
+            task.setProcessors(List.of(processor));
+        }
+        boolean success = task.call();
+
+        long wallNanos = System.nanoTime() - start;
+        long allocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        if (!success) {
+            String errors = diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(Object::toString)
+                    .collect(Collectors.joining(System.lineSeparator()));
+            throw new IllegalStateException("编译失败：" + System.lineSeparator() + errors);
+        }
+        return new Result(wallNanos, processor == null ? 0 : processor.getNanos(), allocatedBytes, fileManager.getClasses(),
+                fileManager.getGenerated());
+    }
+
+    /**
+     * lombok-enum-component所在的classpath
+     */
+    static String componentClasspath() {
+        try {
+            return new File(EnumDesc.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 编译结果
+     *
+     * @param wallNanos      编译总耗时
+     * @param processorNanos 处理器init及process耗时
+     * @param allocatedBytes 编译线程分配的字节数
+     * @param classes        按类名排序的字节码
+     * @param generated      按路径排序的处理器生成的源文件及资源
+     */
+    public record Result(long wallNanos, long processorNanos, long allocatedBytes, Map<String, byte[]> classes,
+                         Map<String, byte[]> generated) {
+
+        public long classBytes() {
+            return classes.values().stream().mapToLong(bytes -> bytes.length).sum();
+        }
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package io.github.hyuga0410.lombok.enums.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 编译期性能基准
+ * <p>
+ * 生成合成源码，分别在不启用和启用{@code AnnotationProcessor}的情况下进程内编译，输出JSON格式的结果：
+ * 编译总耗时、处理器耗时、编译线程分配的字节数，以及按编译类数量折算的单类指标。
+ * <p>
+ * 参数（均可选）：
+ * <pre>
+ * --classes=200       DTO数量
+ * --fields=5          每个DTO的枚举字段数量
+ * --attributes=2      每个@EnumDesc的attributes数量
+ * --enums=20          枚举数量
+ * --warmup=5          预热次数
+ * --iterations=10     测量次数
+ * --output=path.json  结果输出文件，不指定时输出到控制台
+ * -Akey=value         启用处理器时传入的处理器参数，可重复
+ * </pre>
+ * 例如：{@code mvn -f benchmark/compile/pom.xml compile exec:java -Dexec.args="--classes=1000 --output=target/compile.json"}
+ *
+ * @since 2026/10/17
+ */
+public class CompileBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        arguments.put("classes", "200");
+        arguments.put("fields", "5");
+        arguments.put("attributes", "2");
+        arguments.put("enums", "20");
+        arguments.put("warmup", "5");
+        arguments.put("iterations", "10");
+        List<String> processorOptions = new ArrayList<>();
+        String output = null;
+        for (String arg : args) {
+            if (arg.startsWith("-A")) {
+                processorOptions.add(arg);
+                continue;
+            }
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("无法识别的参数：" + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if ("output".equals(key)) {
+                output = value;
+            } else if (arguments.containsKey(key)) {
+                arguments.put(key, value);
+            } else {
+                throw new IllegalArgumentException("无法识别的参数：" + arg);
+            }
+        }
+
+        int classes = Integer.parseInt(arguments.get("classes"));
+        int fields = Integer.parseInt(arguments.get("fields"));
+        int attributes = Integer.parseInt(arguments.get("attributes"));
+        int enums = Integer.parseInt(arguments.get("enums"));
+        int warmup = Integer.parseInt(arguments.get("warmup"));
+        int iterations = Integer.parseInt(arguments.get("iterations"));
+
+        Compilation compilation = new Compilation(SyntheticSources.generate(classes, fields, attributes, enums), processorOptions);
+        int compiledClasses = classes + enums;
+
+        // 交替执行，减少JIT和GC状态对某一模式的偏向
+        for (int i = 0; i < warmup; i++) {
+            compilation.run(false);
+            compilation.run(true);
+        }
+        List<Compilation.Result> baseline = new ArrayList<>();
+        List<Compilation.Result> processor = new ArrayList<>();
+        for (int i = 0; i < iterations; i++) {
+            baseline.add(compilation.run(false));
+            processor.add(compilation.run(true));
+        }
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"config\": {");
+        Iterator<Map.Entry<String, String>> iterator = arguments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> entry = iterator.next();
+            json.append('"').append(entry.getKey()).append("\": ").append(entry.getValue()).append(iterator.hasNext() ? ", " : "");
+        }
+        json.append(", \"compiledClasses\": ").append(compiledClasses);
+        json.append(", \"processorOptions\": [");
+        for (int i = 0; i < processorOptions.size(); i++) {
+            json.append(i == 0 ? "" : ", ").append('"').append(processorOptions.get(i).replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+        json.append("], \"javaVersion\": \"").append(System.getProperty("java.version")).append("\"},\n");
+        json.append("  \"results\": [\n");
+        appendResult(json, "baseline", baseline, compiledClasses);
+        json.append(",\n");
+        appendResult(json, "processor", processor, compiledClasses);
+        json.append("\n  ]\n}\n");
+
+        if (output == null) {
+            System.out.print(json);
+        } else {
+            Path path = Path.of(output);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, json, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void appendResult(StringBuilder json, String mode, List<Compilation.Result> results, int compiledClasses) {
+        long[] wall = results.stream().mapToLong(Compilation.Result::wallNanos).sorted().toArray();
+        long[] processor = results.stream().mapToLong(Compilation.Result::processorNanos).sorted().toArray();
+        long[] allocated = results.stream().mapToLong(Compilation.Result::allocatedBytes).sorted().toArray();
+        long classBytes = results.get(results.size() - 1).classBytes();
+
+        json.append("    {\"mode\": \"").append(mode).append('"');
+        appendStats(json, "wallNanos", wall);
+        appendStats(json, "processorNanos", processor);
+        appendStats(json, "allocatedBytes", allocated);
+        json.append(", \"classBytes\": ").append(classBytes);
+        json.append(", \"perClass\": {");
+        json.append("\"wallNanos\": ").append(median(wall) / compiledClasses);
+        json.append(", \"processorNanos\": ").append(median(processor) / compiledClasses);
+        json.append(", \"allocatedBytes\": ").append(median(allocated) / compiledClasses);
+        json.append(", \"classBytes\": ").append(classBytes / compiledClasses);
+        json.append("}}");
+    }
+
+    private static void appendStats(StringBuilder json, String name, long[] sorted) {
+        long sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        json.append(", \"").append(name).append("\": {");
+        json.append("\"min\": ").append(sorted[0]);
+        json.append(", \"median\": ").append(median(sorted));
+        json.append(", \"mean\": ").append(sum / sorted.length);
+        json.append(", \"max\": ").append(sorted[sorted.length - 1]);
+        json.append('}');
+    }
+
+    private static long median(long[] sorted) {
+        return sorted[sorted.length / 2];
+    }
+
+}
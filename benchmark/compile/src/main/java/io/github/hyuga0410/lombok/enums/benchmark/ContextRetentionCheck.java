@@ -0,0 +1,141 @@
+package io.github.hyuga0410.lombok.enums.benchmark;
+
+import io.github.hyuga0410.lombok.enums.processor.AnnotationProcessor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * javac Context保留检查
+ * <p>
+ * 模拟Gradle守护进程、IDE构建进程、mvnd等长期存活的进程：在同一进程内连续编译多次，并一直持有每次编译的处理器实例，
+ * 编译结束后javac的Context必须可以被回收，即处理器在处理结束后不再引用JavacTrees、TreeMaker、Names等。
+ * <p>
+ * 参数（均可选）：
+ * <pre>
+ * --compilations=20   编译次数
+ * </pre>
+ * 存在未回收的Context时以状态码1退出。
+ * 例如：{@code mvn -f benchmark/compile/pom.xml compile exec:java -Dexec.mainClass=io.github.hyuga0410.lombok.enums.benchmark.ContextRetentionCheck}
+ *
+ * @since 2026/10/17
+ */
+public class ContextRetentionCheck {
+
+    private static final int GC_ATTEMPTS = 20;
+
+    public static void main(String[] args) throws InterruptedException {
+        int compilations = 20;
+        for (String arg : args) {
+            if (!arg.startsWith("--compilations=")) {
+                throw new IllegalArgumentException("无法识别的参数：" + arg);
+            }
+            compilations = Integer.parseInt(arg.substring(arg.indexOf('=') + 1));
+        }
+
+        Compilation compilation = new Compilation(SyntheticSources.generate(50, 3, 2, 5), List.of());
+        // 模拟长期存活的进程持有处理器实例
+        List<Processor> processors = new ArrayList<>();
+        List<WeakReference<Object>> contexts = new ArrayList<>();
+        for (int i = 0; i < compilations; i++) {
+            AnnotationProcessor processor = new AnnotationProcessor();
+            ContextProbe probe = new ContextProbe(processor);
+            compilation.run(probe);
+            if (probe.context == null) {
+                throw new IllegalStateException("未能获取javac Context");
+            }
+            contexts.add(probe.context);
+            processors.add(processor);
+        }
+
+        int retained = retained(contexts);
+        for (int i = 0; i < GC_ATTEMPTS && retained > 0; i++) {
+            System.gc();
+            Thread.sleep(50);
+            retained = retained(contexts);
+        }
+
+        System.out.printf("compilations=%d, processors=%d, retainedContexts=%d%n", compilations, processors.size(), retained);
+        if (retained > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static int retained(List<WeakReference<Object>> contexts) {
+        int retained = 0;
+        for (WeakReference<Object> context : contexts) {
+            if (context.get() != null) {
+                retained++;
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * 记录本次编译的javac Context（弱引用）
+     * <p>
+     * Context在第一轮处理后获取，此时AnnotationProcessor已完成启动并开放了jdk.compiler内部包。
+     */
+    private static class ContextProbe implements Processor {
+
+        private final Processor delegate;
+        private ProcessingEnvironment processingEnv;
+        private WeakReference<Object> context;
+
+        private ContextProbe(Processor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return delegate.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return delegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return delegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            this.processingEnv = processingEnv;
+            delegate.init(processingEnv);
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            boolean claimed = delegate.process(annotations, roundEnv);
+            if (context == null && processingEnv != null) {
+                try {
+                    context = new WeakReference<>(processingEnv.getClass().getMethod("getContext").invoke(processingEnv));
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            if (roundEnv.processingOver()) {
+                processingEnv = null;
+            }
+            return claimed;
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation, ExecutableElement member, String userText) {
+            return delegate.getCompletions(element, annotation, member, userText);
+        }
+
+    }
+
+}
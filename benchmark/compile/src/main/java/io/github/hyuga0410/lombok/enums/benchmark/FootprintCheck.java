@@ -0,0 +1,220 @@
+package io.github.hyuga0410.lombok.enums.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 运行期占用对比：类中生成完整的方法与委托共享访问器（{@code -Alombok.enums.accessor=shared}）
+ * <p>
+ * 两种模式分别编译同一份合成源码，字节码写入{@code target/footprint/<模式>}，
+ * 再各自在新的JVM（{@code -Xbatch}，同步编译）中加载全部类，为枚举字段赋值后反复调用每个DTO的writeEnumDescs，
+ * 记录加载前后Metaspace、Compressed Class Space及JIT代码缓存（CodeHeap或CodeCache）的增量。
+ * <p>
+ * 参数（均可选）：
+ * <pre>
+ * --classes=2000      DTO数量
+ * --fields=5          每个DTO的枚举字段数量
+ * --attributes=2      每个@EnumDesc的attributes数量
+ * --enums=20          枚举数量
+ * --calls=5000        每个DTO调用writeEnumDescs的次数
+ * --memoize=false     @EnumDesc是否开启memoize
+ * --output=path.json  结果输出文件，不指定时输出到控制台
+ * </pre>
+ * 例如：{@code mvn -f benchmark/compile/pom.xml compile exec:java -Dexec.mainClass=io.github.hyuga0410.lombok.enums.benchmark.FootprintCheck}
+ *
+ * @since 2026/10/17
+ */
+public class FootprintCheck {
+
+    private static final String PROBE = "--probe=";
+    private static final String[][] MODES = {
+            {"inline"},
+            {"shared", "-Alombok.enums.accessor=shared"},
+    };
+
+    public static void main(String[] args) throws Throwable {
+        if (args.length == 2 && args[0].startsWith(PROBE)) {
+            probe(Path.of(args[0].substring(PROBE.length())), Integer.parseInt(args[1]));
+            return;
+        }
+
+        Map<String, String> arguments = new LinkedHashMap<>();
+        arguments.put("classes", "2000");
+        arguments.put("fields", "5");
+        arguments.put("attributes", "2");
+        arguments.put("enums", "20");
+        arguments.put("calls", "5000");
+        arguments.put("memoize", "false");
+        String output = null;
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("无法识别的参数：" + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if ("output".equals(key)) {
+                output = value;
+            } else if (arguments.containsKey(key)) {
+                arguments.put(key, value);
+            } else {
+                throw new IllegalArgumentException("无法识别的参数：" + arg);
+            }
+        }
+
+        int classes = Integer.parseInt(arguments.get("classes"));
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"config\": {");
+        Iterator<Map.Entry<String, String>> iterator = arguments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> entry = iterator.next();
+            json.append('"').append(entry.getKey()).append("\": ").append(entry.getValue()).append(iterator.hasNext() ? ", " : "");
+        }
+        json.append(", \"javaVersion\": \"").append(System.getProperty("java.version")).append("\"},\n");
+        json.append("  \"results\": [");
+        for (int i = 0; i < MODES.length; i++) {
+            String mode = MODES[i][0];
+            Compilation compilation = new Compilation(SyntheticSources.generate(classes, Integer.parseInt(arguments.get("fields")),
+                    Integer.parseInt(arguments.get("attributes")), Integer.parseInt(arguments.get("enums")),
+                    Boolean.parseBoolean(arguments.get("memoize"))),
+                    Arrays.asList(MODES[i]).subList(1, MODES[i].length));
+            Compilation.Result result = compilation.run(true);
+            Path directory = Path.of("target", "footprint", mode);
+            write(directory, result.classes());
+
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"mode\": \"").append(mode).append('"')
+                    .append(", \"classBytes\": ").append(result.classBytes())
+                    .append(", \"perClassBytes\": ").append(result.classBytes() / classes)
+                    .append(", ").append(fork(directory, arguments.get("calls"))).append('}');
+        }
+        json.append("\n  ]\n}\n");
+
+        if (output == null) {
+            System.out.print(json);
+        } else {
+            Path path = Path.of(output);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, json, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 写入字节码，先清空上一次的结果
+     */
+    private static void write(Path directory, Map<String, byte[]> classes) throws IOException {
+        if (Files.exists(directory)) {
+            try (var paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            Path file = directory.resolve(entry.getKey().replace('.', File.separatorChar) + ".class");
+            Files.createDirectories(file.getParent());
+            Files.write(file, entry.getValue());
+        }
+    }
+
+    /**
+     * 在新的JVM中测量，返回JSON片段
+     */
+    private static String fork(Path directory, String calls) throws IOException, InterruptedException, URISyntaxException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        // exec:java在Maven进程中执行，java.class.path不包含本模块，使用本类所在的目录
+        String classpath = new File(FootprintCheck.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        Process process = new ProcessBuilder(java, "-Xbatch", "-cp", classpath, FootprintCheck.class.getName(),
+                PROBE + directory.toAbsolutePath(), calls)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        String result = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("测量进程异常退出：" + result);
+        }
+        return result;
+    }
+
+    /**
+     * 子进程：加载全部类并调用writeEnumDescs，输出占用增量
+     */
+    private static void probe(Path directory, int calls) throws Throwable {
+        List<String> names = new ArrayList<>();
+        try (var paths = Files.walk(directory)) {
+            for (Path path : paths.filter(path -> path.toString().endsWith(".class")).sorted().toList()) {
+                String name = directory.relativize(path).toString();
+                names.add(name.substring(0, name.length() - ".class".length()).replace(File.separatorChar, '.'));
+            }
+        }
+
+        System.gc();
+        long metaspace = used("Metaspace");
+        long classSpace = used("Compressed Class Space");
+        long codeCache = used("Code");
+
+        List<Object> dtos = new ArrayList<>();
+        List<MethodHandle> writers = new ArrayList<>();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null)) {
+            for (String name : names) {
+                Class<?> type = Class.forName(name, true, loader);
+                if (!type.getSimpleName().startsWith("Dto")) {
+                    continue;
+                }
+                Object dto = type.getConstructor().newInstance();
+                int index = 0;
+                for (Field field : type.getDeclaredFields()) {
+                    if (field.getType().isEnum()) {
+                        Object[] constants = field.getType().getEnumConstants();
+                        field.setAccessible(true);
+                        field.set(dto, constants[index++ % constants.length]);
+                    }
+                }
+                dtos.add(dto);
+                writers.add(MethodHandles.publicLookup()
+                        .findVirtual(type, "writeEnumDescs", MethodType.methodType(StringBuilder.class, StringBuilder.class))
+                        .asType(MethodType.methodType(StringBuilder.class, Object.class, StringBuilder.class)));
+            }
+
+            long checksum = 0;
+            StringBuilder out = new StringBuilder(256);
+            for (int call = 0; call < calls; call++) {
+                for (int i = 0; i < dtos.size(); i++) {
+                    out.setLength(0);
+                    checksum += ((StringBuilder) writers.get(i).invokeExact(dtos.get(i), out)).length();
+                }
+            }
+
+            System.gc();
+            System.out.printf("\"loadedClasses\": %d, \"metaspaceBytes\": %d, \"classSpaceBytes\": %d, \"codeCacheBytes\": %d, \"checksum\": %d",
+                    names.size(), used("Metaspace") - metaspace, used("Compressed Class Space") - classSpace,
+                    used("Code") - codeCache, checksum);
+        }
+    }
+
+    /**
+     * 名称以prefix开头的内存池已使用的字节数之和
+     */
+    private static long used(String prefix) {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getName().startsWith(prefix)) {
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+}
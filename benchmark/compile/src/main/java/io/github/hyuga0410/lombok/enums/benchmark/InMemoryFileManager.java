@@ -0,0 +1,105 @@
+package io.github.hyuga0410.lombok.enums.benchmark;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 内存文件管理器
+ * <p>
+ * 编译产物写入内存，避免磁盘IO干扰测量结果，并按类名有序保存字节码供后续比对。
+ * 处理器通过Filer生成的源文件及资源同样写入内存，源文件可被javac读回编译。
+ *
+ * @since 2026/10/17
+ */
+public class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<String, ByteArrayOutputStream> classes = new TreeMap<>();
+    private final Map<String, ByteArrayOutputStream> generated = new TreeMap<>();
+
+    public InMemoryFileManager(StandardJavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+        URI uri = URI.create("mem:///" + className.replace('.', '/') + kind.extension);
+        return new MemoryFile(uri, kind, className, kind == JavaFileObject.Kind.CLASS ? classes : generated);
+    }
+
+    @Override
+    public FileObject getFileForOutput(Location location, String packageName, String relativeName, FileObject sibling) {
+        String path = packageName.isEmpty() ? relativeName : packageName.replace('.', '/') + "/" + relativeName;
+        return new MemoryFile(URI.create("mem:///" + path), JavaFileObject.Kind.OTHER, path, generated);
+    }
+
+    /**
+     * 按类名排序的字节码
+     */
+    public Map<String, byte[]> getClasses() {
+        Map<String, byte[]> result = new TreeMap<>();
+        classes.forEach((name, bytes) -> result.put(name, bytes.toByteArray()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 按路径排序的处理器生成的源文件及资源
+     */
+    public Map<String, byte[]> getGenerated() {
+        Map<String, byte[]> result = new TreeMap<>();
+        generated.forEach((name, bytes) -> result.put(name, bytes.toByteArray()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 字节码总大小
+     */
+    public long getTotalBytes() {
+        return classes.values().stream().mapToLong(ByteArrayOutputStream::size).sum();
+    }
+
+    /**
+     * 清空上一次编译的产物
+     */
+    public void reset() {
+        classes.clear();
+        generated.clear();
+    }
+
+    /**
+     * 内存中的输出文件
+     */
+    private static class MemoryFile extends SimpleJavaFileObject {
+
+        private final String name;
+        private final Map<String, ByteArrayOutputStream> files;
+
+        private MemoryFile(URI uri, Kind kind, String name, Map<String, ByteArrayOutputStream> files) {
+            super(uri, kind);
+            this.name = name;
+            this.files = files;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            files.put(name, bytes);
+            return bytes;
+        }
+
+        /**
+         * 读回生成的源文件，与{@link SimpleJavaFileObject#openWriter()}使用相同的默认字符集
+         */
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return files.get(name).toString(Charset.defaultCharset());
+        }
+
+    }
+
+}
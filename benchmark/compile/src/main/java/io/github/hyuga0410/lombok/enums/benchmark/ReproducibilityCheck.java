@@ -0,0 +1,149 @@
+package io.github.hyuga0410.lombok.enums.benchmark;
+
+import javax.tools.JavaFileObject;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 可重复构建检查
+ * <p>
+ * 每种模式以相同的合成源码连续编译多次，再以倒序的源文件编译一次，逐个比较字节码及处理器生成的源文件、资源，
+ * 全部字节相同时生成结果与编译次数及源文件顺序无关，构建缓存（Gradle、Bazel等）可以命中。
+ * <p>
+ * 参数（均可选）：
+ * <pre>
+ * --classes=200       DTO数量
+ * --fields=3          每个DTO的枚举字段数量
+ * --attributes=3      每个@EnumDesc的attributes数量
+ * --enums=10          枚举数量
+ * --runs=3            每种模式按原顺序编译的次数
+ * --output=path.json  结果输出文件，不指定时输出到控制台
+ * </pre>
+ * 存在不一致的文件时以状态码1退出。
+ * 例如：{@code mvn -f benchmark/compile/pom.xml compile exec:java -Dexec.mainClass=io.github.hyuga0410.lombok.enums.benchmark.ReproducibilityCheck}
+ *
+ * @since 2026/10/17
+ */
+public class ReproducibilityCheck {
+
+    /**
+     * 模式名、是否开启memoize、处理器参数
+     */
+    private static final String[][] MODES = {
+            {"default", "false"},
+            {"memoize", "true"},
+            {"shared", "true", "-Alombok.enums.accessor=shared"},
+            {"filer", "true", "-Alombok.enums.backend=filer"},
+            {"registry", "false", "-Alombok.enums.registry=bench.EnumRegistry"},
+    };
+    private static final int MAX_REPORTED = 5;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        arguments.put("classes", "200");
+        arguments.put("fields", "3");
+        arguments.put("attributes", "3");
+        arguments.put("enums", "10");
+        arguments.put("runs", "3");
+        String output = null;
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("无法识别的参数：" + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if ("output".equals(key)) {
+                output = value;
+            } else if (arguments.containsKey(key)) {
+                arguments.put(key, value);
+            } else {
+                throw new IllegalArgumentException("无法识别的参数：" + arg);
+            }
+        }
+        int runs = Integer.parseInt(arguments.get("runs"));
+        if (runs < 1) {
+            throw new IllegalArgumentException("runs必须大于0");
+        }
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"config\": {");
+        Iterator<Map.Entry<String, String>> iterator = arguments.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> entry = iterator.next();
+            json.append('"').append(entry.getKey()).append("\": ").append(entry.getValue()).append(iterator.hasNext() ? ", " : "");
+        }
+        json.append(", \"javaVersion\": \"").append(System.getProperty("java.version")).append("\"},\n");
+        json.append("  \"results\": [");
+        boolean reproducible = true;
+        for (int i = 0; i < MODES.length; i++) {
+            String[] mode = MODES[i];
+            List<JavaFileObject> sources = SyntheticSources.generate(Integer.parseInt(arguments.get("classes")),
+                    Integer.parseInt(arguments.get("fields")), Integer.parseInt(arguments.get("attributes")),
+                    Integer.parseInt(arguments.get("enums")), Boolean.parseBoolean(mode[1]));
+            List<String> options = Arrays.asList(mode).subList(2, mode.length);
+
+            Compilation.Result expected = new Compilation(sources, options).run(true);
+            Set<String> mismatches = new TreeSet<>();
+            for (int run = 1; run < runs; run++) {
+                compare(expected, new Compilation(sources, options).run(true), mismatches);
+            }
+            List<JavaFileObject> reversed = new ArrayList<>(sources);
+            Collections.reverse(reversed);
+            compare(expected, new Compilation(reversed, options).run(true), mismatches);
+            reproducible = reproducible && mismatches.isEmpty();
+
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"mode\": \"").append(mode[0]).append('"')
+                    .append(", \"compilations\": ").append(runs + 1)
+                    .append(", \"classes\": ").append(expected.classes().size())
+                    .append(", \"generatedFiles\": ").append(expected.generated().size())
+                    .append(", \"reproducible\": ").append(mismatches.isEmpty())
+                    .append(", \"mismatches\": [");
+            int reported = 0;
+            for (String mismatch : mismatches) {
+                if (reported == MAX_REPORTED) {
+                    json.append(", \"...\"");
+                    break;
+                }
+                json.append(reported++ == 0 ? "" : ", ").append('"').append(mismatch).append('"');
+            }
+            json.append("]}");
+        }
+        json.append("\n  ]\n}\n");
+
+        if (output == null) {
+            System.out.print(json);
+        } else {
+            Path path = Path.of(output);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, json, StandardCharsets.UTF_8);
+        }
+        if (!reproducible) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 比较两次编译的字节码及生成文件，记录缺失或内容不同的文件名
+     */
+    private static void compare(Compilation.Result expected, Compilation.Result actual, Set<String> mismatches) {
+        compare(expected.classes(), actual.classes(), mismatches);
+        compare(expected.generated(), actual.generated(), mismatches);
+    }
+
+    private static void compare(Map<String, byte[]> expected, Map<String, byte[]> actual, Set<String> mismatches) {
+        Set<String> names = new TreeSet<>(expected.keySet());
+        names.addAll(actual.keySet());
+        for (String name : names) {
+            byte[] left = expected.get(name);
+            byte[] right = actual.get(name);
+            if (left == null || right == null || !Arrays.equals(left, right)) {
+                mismatches.add(name);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package io.github.hyuga0410.lombok.enums.benchmark;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 合成源码
+ * <p>
+ * 按配置生成{@code enums}个枚举以及{@code classes}个类上标注{@code @EnumDesc(attributes = {...})}的DTO，
+ * 每个DTO包含{@code fields}个枚举字段，每个枚举包含{@code attributes}个String属性及对应的get方法。
+ * 开启memoize时get方法为计算属性（{@code return desc.trim();}），否则只返回final字段，处理器不会为其生成预计算表。
+ *
+ * @since 2026/10/17
+ */
+public final class SyntheticSources {
+
+    public static final String PACKAGE = "bench";
+
+    private static final int CONSTANTS = 8;
+
+    private SyntheticSources() {
+    }
+
+    /**
+     * 生成源码
+     *
+     * @param classes    DTO数量
+     * @param fields     每个DTO的枚举字段数量
+     * @param attributes 每个@EnumDesc的attributes数量（包含desc）
+     * @param enums      枚举数量
+     * @return 内存中的源文件
+     */
+    public static List<JavaFileObject> generate(int classes, int fields, int attributes, int enums) {
+        return generate(classes, fields, attributes, enums, false);
+    }
+
+    /**
+     * 生成源码
+     *
+     * @param classes    DTO数量
+     * @param fields     每个DTO的枚举字段数量
+     * @param attributes 每个@EnumDesc的attributes数量（包含desc）
+     * @param enums      枚举数量
+     * @param memoize    @EnumDesc是否开启memoize
+     * @return 内存中的源文件
+     */
+    public static List<JavaFileObject> generate(int classes, int fields, int attributes, int enums, boolean memoize) {
+        List<JavaFileObject> sources = new ArrayList<>(classes + enums);
+        for (int i = 0; i < enums; i++) {
+            sources.add(source("Enum" + i, enumSource(i, attributes, memoize)));
+        }
+        for (int i = 0; i < classes; i++) {
+            sources.add(source("Dto" + i, dtoSource(i, fields, attributes, enums, memoize)));
+        }
+        return sources;
+    }
+
+    /**
+     * 属性名：desc、attr1、attr2...
+     */
+    public static String attribute(int index) {
+        return index == 0 ? "desc" : "attr" + index;
+    }
+
+    private static String enumSource(int index, int attributes, boolean computed) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(";\n\n");
+        source.append("public enum Enum").append(index).append(" {\n");
+        for (int c = 0; c < CONSTANTS; c++) {
+            source.append("    C").append(c).append('(');
+            for (int a = 0; a < attributes; a++) {
+                source.append(a == 0 ? "" : ", ").append('"').append(attribute(a)).append('-').append(c).append('"');
+            }
+            source.append(c == CONSTANTS - 1 ? ");\n\n" : "),\n");
+        }
+        for (int a = 0; a < attributes; a++) {
+            source.append("    private final String ").append(attribute(a)).append(";\n");
+        }
+        source.append("\n    Enum").append(index).append('(');
+        for (int a = 0; a < attributes; a++) {
+            source.append(a == 0 ? "" : ", ").append("String ").append(attribute(a));
+        }
+        source.append(") {\n");
+        for (int a = 0; a < attributes; a++) {
+            source.append("        this.").append(attribute(a)).append(" = ").append(attribute(a)).append(";\n");
+        }
+        source.append("    }\n");
+        for (int a = 0; a < attributes; a++) {
+            String name = attribute(a);
+            source.append("\n    public String get").append(Character.toUpperCase(name.charAt(0))).append(name.substring(1))
+                    .append("() {\n        return ").append(name).append(computed ? ".trim();\n    }\n" : ";\n    }\n");
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static String dtoSource(int index, int fields, int attributes, int enums, boolean memoize) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(";\n\n");
+        source.append("import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;\n\n");
+        source.append("@EnumDesc(attributes = {");
+        for (int a = 0; a < attributes; a++) {
+            source.append(a == 0 ? "" : ", ").append('"').append(attribute(a)).append('"');
+        }
+        source.append(memoize ? "}, memoize = true)\n" : "})\n");
+        source.append("public class Dto").append(index).append(" {\n\n");
+        source.append("    private long id;\n");
+        source.append("    private String name;\n");
+        for (int f = 0; f < fields; f++) {
+            source.append("    private Enum").append((index + f) % enums).append(" field").append(f).append(";\n");
+        }
+        source.append("\n    public long getId() {\n        return id;\n    }\n");
+        source.append("\n    public String getName() {\n        return name;\n    }\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    static JavaFileObject source(String simpleName, String content) {
+        URI uri = URI.create("string:///" + PACKAGE + "/" + simpleName + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+}
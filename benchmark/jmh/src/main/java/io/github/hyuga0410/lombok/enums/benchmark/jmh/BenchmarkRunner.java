@@ -0,0 +1,48 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.net.URISyntaxException;
+
+/**
+ * JMH入口
+ * <p>
+ * 在JMH命令行参数的基础上默认开启GC分配分析（{@code -prof gc}，输出gc.alloc.rate.norm即每次操作分配的字节数），
+ * 结果以JSON格式写入benchmarks.jar所在目录（即{@code benchmark/jmh/target}）下的{@code jmh-result.json}（可通过{@code -rff}指定）。
+ * <p>
+ * 例如：{@code java -jar benchmark/jmh/target/benchmarks.jar DescGetterBenchmark -p nullPercent=90}
+ *
+ * @since 2026/10/17
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, URISyntaxException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON);
+        if (!commandLine.getResult().hasValue()) {
+            builder.result(new File(resultDirectory(), "jmh-result.json").getPath());
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+
+    /**
+     * benchmarks.jar所在的目录，结果不写入仓库根目录
+     */
+    private static File resultDirectory() throws URISyntaxException {
+        File location = new File(BenchmarkRunner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        return location.isFile() ? location.getParentFile() : location;
+    }
+
+}
@@ -0,0 +1,171 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh;
+
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 生成的getXxxDesc()与手写getter、反射获取的对比
+ * <p>
+ * - generated / handWritten / reflection：单属性，单态调用点 <br>
+ * - multiAttribute*：{@code @EnumDesc(attributes = {"desc", "label", "group"})} <br>
+ * - monomorphicInterface / megamorphicInterface：经接口调用生成的方法，分别只有一种和四种实现类 <br>
+ * - write*：导出时输出全部属性，生成的writeEnumDescs与反射构建Map后输出的对比 <br>
+ * - {@code nullPercent}：枚举字段为null的比例，覆盖生成代码中的null判断分支
+ *
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DescGetterBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"0", "50", "90"})
+    private int nullPercent;
+
+    private OrderDto[] generated;
+    private HandWrittenOrderDto[] handWritten;
+    private MultiAttributeDto[] multiAttribute;
+    private StatusDescAware[] monomorphic;
+    private StatusDescAware[] megamorphic;
+    private ReflectiveDescResolver resolver;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        generated = new OrderDto[SIZE];
+        handWritten = new HandWrittenOrderDto[SIZE];
+        multiAttribute = new MultiAttributeDto[SIZE];
+        monomorphic = new StatusDescAware[SIZE];
+        megamorphic = new StatusDescAware[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            boolean isNull = random.nextInt(100) < nullPercent;
+            StatusEnum status = isNull ? null : pick(random, StatusEnum.values());
+            generated[i] = new OrderDto(status);
+            handWritten[i] = new HandWrittenOrderDto(status);
+            multiAttribute[i] = new MultiAttributeDto(status);
+            monomorphic[i] = new OrderDto(status);
+            megamorphic[i] = switch (random.nextInt(4)) {
+                case 0 -> new OrderDto(status);
+                case 1 -> new TagDto(isNull ? null : pick(random, TagEnum.values()));
+                case 2 -> new LevelDto(isNull ? null : pick(random, LevelEnum.values()));
+                default -> new TypeDto(isNull ? null : pick(random, TypeEnum.values()));
+            };
+        }
+        resolver = new ReflectiveDescResolver();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void generated(Blackhole blackhole) {
+        for (OrderDto dto : generated) {
+            blackhole.consume(dto.getStatusDesc());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void handWritten(Blackhole blackhole) {
+        for (HandWrittenOrderDto dto : handWritten) {
+            blackhole.consume(dto.getStatusDesc());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void reflection(Blackhole blackhole) {
+        for (OrderDto dto : generated) {
+            blackhole.consume(resolver.resolve(dto, "status", "getDesc"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiAttributeGenerated(Blackhole blackhole) {
+        for (MultiAttributeDto dto : multiAttribute) {
+            blackhole.consume(dto.getStatusDesc());
+            blackhole.consume(dto.getStatusLabel());
+            blackhole.consume(dto.getStatusGroup());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiAttributeHandWritten(Blackhole blackhole) {
+        for (HandWrittenOrderDto dto : handWritten) {
+            blackhole.consume(dto.getStatusDesc());
+            blackhole.consume(dto.getStatusLabel());
+            blackhole.consume(dto.getStatusGroup());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiAttributeReflection(Blackhole blackhole) {
+        for (MultiAttributeDto dto : multiAttribute) {
+            blackhole.consume(resolver.resolve(dto, "status", "getDesc"));
+            blackhole.consume(resolver.resolve(dto, "status", "getLabel"));
+            blackhole.consume(resolver.resolve(dto, "status", "getGroup"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void writeGenerated(Blackhole blackhole) {
+        StringBuilder out = new StringBuilder(64);
+        for (MultiAttributeDto dto : multiAttribute) {
+            out.setLength(0);
+            blackhole.consume(dto.writeEnumDescs(out));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void writeReflectiveMap(Blackhole blackhole) {
+        StringBuilder out = new StringBuilder(64);
+        for (MultiAttributeDto dto : multiAttribute) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("statusDesc", resolver.resolve(dto, "status", "getDesc"));
+            values.put("statusLabel", resolver.resolve(dto, "status", "getLabel"));
+            values.put("statusGroup", resolver.resolve(dto, "status", "getGroup"));
+            out.setLength(0);
+            String separator = "";
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                out.append(separator).append(entry.getKey()).append('=').append(entry.getValue());
+                separator = ", ";
+            }
+            blackhole.consume(out);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void monomorphicInterface(Blackhole blackhole) {
+        for (StatusDescAware dto : monomorphic) {
+            blackhole.consume(dto.getStatusDesc());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void megamorphicInterface(Blackhole blackhole) {
+        for (StatusDescAware dto : megamorphic) {
+            blackhole.consume(dto.getStatusDesc());
+        }
+    }
+
+    private static <E> E pick(Random random, E[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh;
+
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.ExportRowDto;
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.StatusEnum;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按列导出：生成的readColumn(int)与反射Method.invoke、启动时按类创建的MethodHandle的对比
+ * <p>
+ * 每次调用读取{@code rows}行的全部列（字段及生成的getStatusDesc、getStatusCode），列按COLUMN_NAMES的顺序
+ *
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private ExportRowDto[] source;
+    private Method[] methods;
+    private MethodHandle[] handles;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Random random = new Random(42);
+        StatusEnum[] values = StatusEnum.values();
+        source = new ExportRowDto[rows];
+        for (int i = 0; i < rows; i++) {
+            source[i] = new ExportRowDto(i, "item-" + i, random.nextInt(10) == 0 ? null : values[random.nextInt(values.length)], i % 100);
+        }
+
+        // 反射方式：按列名查找get方法
+        methods = new Method[ExportRowDto.COLUMN_NAMES.length];
+        handles = new MethodHandle[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            String column = ExportRowDto.COLUMN_NAMES[i];
+            methods[i] = ExportRowDto.class.getMethod("get" + Character.toUpperCase(column.charAt(0)) + column.substring(1));
+            handles[i] = MethodHandles.publicLookup().unreflect(methods[i]).asType(MethodType.methodType(Object.class, ExportRowDto.class));
+        }
+    }
+
+    @Benchmark
+    public void generatedColumns(Blackhole blackhole) {
+        int columns = ExportRowDto.COLUMN_NAMES.length;
+        for (ExportRowDto row : source) {
+            for (int i = 0; i < columns; i++) {
+                blackhole.consume(row.readColumn(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public void reflection(Blackhole blackhole) throws ReflectiveOperationException {
+        for (ExportRowDto row : source) {
+            for (Method method : methods) {
+                blackhole.consume(method.invoke(row));
+            }
+        }
+    }
+
+    @Benchmark
+    public void methodHandle(Blackhole blackhole) throws Throwable {
+        for (ExportRowDto row : source) {
+            for (MethodHandle handle : handles) {
+                blackhole.consume((Object) handle.invokeExact(row));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh;
+
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.LabelDto;
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.StatusEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 组合描述：{@code @EnumDesc(format = "[{group}] {code}-{desc}")}生成的getStatusLabel()与每次调用各属性的get方法后拼接的对比
+ *
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LabelBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private LabelDto[] dtos;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        StatusEnum[] values = StatusEnum.values();
+        dtos = new LabelDto[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            dtos[i] = new LabelDto(values[random.nextInt(values.length)]);
+        }
+    }
+
+    private LabelDto next() {
+        index = (index + 1) & (SIZE - 1);
+        return dtos[index];
+    }
+
+    @Benchmark
+    public String generatedLabel() {
+        return next().getStatusLabel();
+    }
+
+    @Benchmark
+    public String concatenate() {
+        LabelDto dto = next();
+        return "[" + dto.getStatusGroup() + "] " + dto.getStatusCode() + "-" + dto.getStatusDesc();
+    }
+
+}
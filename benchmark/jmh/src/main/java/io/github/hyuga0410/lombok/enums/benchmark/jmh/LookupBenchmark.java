@@ -0,0 +1,62 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh;
+
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.StatusEnum;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @EnumLookup}生成的of(code)与遍历values()的对比
+ *
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private int[] codes;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        StatusEnum[] values = StatusEnum.values();
+        codes = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            codes[i] = values[random.nextInt(values.length)].getCode();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void generatedOf(Blackhole blackhole) {
+        for (int code : codes) {
+            blackhole.consume(StatusEnum.of(code));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void valuesLoop(Blackhole blackhole) {
+        for (int code : codes) {
+            blackhole.consume(ofByValues(code));
+        }
+    }
+
+    private static StatusEnum ofByValues(int code) {
+        for (StatusEnum value : StatusEnum.values()) {
+            if (value.getCode() == code) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException(String.valueOf(code));
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh;
+
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.StatusEnum;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @EnumLookup(parse = "desc")}生成的parseDesc与运行时HashMap、遍历values()的对比
+ * <p>
+ * 模拟导入时逐行解析：描述位于行缓冲区中的一段，parseDesc直接传入区间，其余方式需先substring
+ *
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseDescBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final String PREFIX = "10086,";
+
+    private static final Map<String, StatusEnum> BY_DESC = new HashMap<>();
+
+    static {
+        for (StatusEnum value : StatusEnum.values()) {
+            BY_DESC.putIfAbsent(value.getDesc(), value);
+        }
+    }
+
+    private StringBuilder[] lines;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        StatusEnum[] values = StatusEnum.values();
+        lines = new StringBuilder[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            lines[i] = new StringBuilder(PREFIX).append(values[random.nextInt(values.length)].getDesc()).append(",1");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void generatedParse(Blackhole blackhole) {
+        for (StringBuilder line : lines) {
+            blackhole.consume(StatusEnum.parseDesc(line, PREFIX.length(), line.length() - 2));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void hashMap(Blackhole blackhole) {
+        for (StringBuilder line : lines) {
+            blackhole.consume(BY_DESC.get(line.substring(PREFIX.length(), line.length() - 2)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void valuesLoop(Blackhole blackhole) {
+        for (StringBuilder line : lines) {
+            blackhole.consume(parseByValues(line.substring(PREFIX.length(), line.length() - 2)));
+        }
+    }
+
+    private static StatusEnum parseByValues(String desc) {
+        for (StatusEnum value : StatusEnum.values()) {
+            if (value.getDesc().equals(desc)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+}
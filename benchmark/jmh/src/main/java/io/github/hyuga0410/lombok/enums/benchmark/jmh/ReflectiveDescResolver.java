@@ -0,0 +1,52 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 反射方式获取枚举字段描述的对照组
+ * <p>
+ * 模拟业务中常见的兜底实现：按字段名反射读取枚举值，再反射调用枚举的get方法，Field和Method均已缓存。
+ *
+ * @since 2026/10/17
+ */
+public class ReflectiveDescResolver {
+
+    private final Map<String, Field> fields = new ConcurrentHashMap<>();
+    private final Map<String, Method> getters = new ConcurrentHashMap<>();
+
+    public String resolve(Object target, String fieldName, String getterName) {
+        try {
+            Field field = fields.computeIfAbsent(target.getClass().getName() + '#' + fieldName, key -> field(target.getClass(), fieldName));
+            Object value = field.get(target);
+            if (value == null) {
+                return "";
+            }
+            Method getter = getters.computeIfAbsent(value.getClass().getName() + '#' + getterName, key -> getter(value.getClass(), getterName));
+            return (String) getter.invoke(value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Field field(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Method getter(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
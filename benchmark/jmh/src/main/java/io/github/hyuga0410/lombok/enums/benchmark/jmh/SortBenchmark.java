@@ -0,0 +1,69 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh;
+
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.SortedOrderDto;
+import io.github.hyuga0410.lombok.enums.benchmark.jmh.model.StatusEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按描述排序：生成的排序键（STATUS_DESC_ORDER）与每次比较调用getStatusDesc()后Collator、String比较的对比
+ * <p>
+ * 每次调用复制后排序{@code rows}行
+ *
+ * @since 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+
+    private static final Comparator<SortedOrderDto> COLLATOR_ORDER =
+            Comparator.comparing(SortedOrderDto::getStatusDesc, Collator.getInstance(Locale.CHINA));
+    private static final Comparator<SortedOrderDto> STRING_ORDER = Comparator.comparing(SortedOrderDto::getStatusDesc);
+
+    @Param({"100000"})
+    private int rows;
+
+    private SortedOrderDto[] source;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        StatusEnum[] values = StatusEnum.values();
+        source = new SortedOrderDto[rows];
+        for (int i = 0; i < rows; i++) {
+            source[i] = new SortedOrderDto(values[random.nextInt(values.length)]);
+        }
+    }
+
+    @Benchmark
+    public SortedOrderDto[] generatedRank() {
+        SortedOrderDto[] copy = source.clone();
+        Arrays.sort(copy, SortedOrderDto.STATUS_DESC_ORDER);
+        return copy;
+    }
+
+    @Benchmark
+    public SortedOrderDto[] collator() {
+        SortedOrderDto[] copy = source.clone();
+        Arrays.sort(copy, COLLATOR_ORDER);
+        return copy;
+    }
+
+    @Benchmark
+    public SortedOrderDto[] stringCompare() {
+        SortedOrderDto[] copy = source.clone();
+        Arrays.sort(copy, STRING_ORDER);
+        return copy;
+    }
+
+}
@@ -0,0 +1,41 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
+
+/**
+ * 导出行：生成列描述COLUMN_NAMES、COLUMN_TYPES及readColumn(int)
+ *
+ * @since 2026/10/17
+ */
+@EnumDesc(attributes = {"desc", "code"}, columns = true)
+public class ExportRowDto {
+
+    private final long id;
+    private final String name;
+    private final StatusEnum status;
+    private final int quantity;
+
+    public ExportRowDto(long id, String name, StatusEnum status, int quantity) {
+        this.id = id;
+        this.name = name;
+        this.status = status;
+        this.quantity = quantity;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+}
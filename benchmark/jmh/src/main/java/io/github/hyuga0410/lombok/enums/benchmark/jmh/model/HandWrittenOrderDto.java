@@ -0,0 +1,32 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+/**
+ * 手写getter的对照组
+ *
+ * @since 2026/10/17
+ */
+public class HandWrittenOrderDto {
+
+    private final StatusEnum status;
+
+    public HandWrittenOrderDto(StatusEnum status) {
+        this.status = status;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public String getStatusDesc() {
+        return status == null ? "" : status.getDesc();
+    }
+
+    public String getStatusLabel() {
+        return status == null ? "" : status.getLabel();
+    }
+
+    public String getStatusGroup() {
+        return status == null ? "" : status.getGroup();
+    }
+
+}
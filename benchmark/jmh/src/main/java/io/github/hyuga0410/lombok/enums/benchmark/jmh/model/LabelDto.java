@@ -0,0 +1,19 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
+
+/**
+ * 组合描述：生成getStatusDesc()、getStatusCode()、getStatusGroup()及预先拼接的getStatusLabel()
+ *
+ * @since 2026/10/17
+ */
+public class LabelDto {
+
+    @EnumDesc(attributes = {"desc", "code", "group"}, format = "[{group}] {code}-{desc}")
+    private final StatusEnum status;
+
+    public LabelDto(StatusEnum status) {
+        this.status = status;
+    }
+
+}
@@ -0,0 +1,19 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
+
+/**
+ * 多态调用点使用的DTO，字段同名以生成相同签名的getStatusDesc()
+ *
+ * @since 2026/10/17
+ */
+@EnumDesc
+public class LevelDto implements StatusDescAware {
+
+    private final LevelEnum status;
+
+    public LevelDto(LevelEnum status) {
+        this.status = status;
+    }
+
+}
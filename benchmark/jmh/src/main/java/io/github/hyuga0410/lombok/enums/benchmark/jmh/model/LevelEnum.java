@@ -0,0 +1,22 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+/**
+ * 多态调用点使用的枚举
+ *
+ * @since 2026/10/17
+ */
+public enum LevelEnum {
+
+    NORMAL("普通"), SILVER("白银"), GOLD("黄金"), DIAMOND("钻石");
+
+    private final String desc;
+
+    LevelEnum(String desc) {
+        this.desc = desc;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+
+}
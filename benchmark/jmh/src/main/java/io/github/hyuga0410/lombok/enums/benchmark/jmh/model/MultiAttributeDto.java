@@ -0,0 +1,19 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
+
+/**
+ * 字段级别多属性@EnumDesc，生成getStatusDesc()、getStatusLabel()、getStatusGroup()
+ *
+ * @since 2026/10/17
+ */
+public class MultiAttributeDto {
+
+    @EnumDesc(attributes = {"desc", "label", "group"})
+    private final StatusEnum status;
+
+    public MultiAttributeDto(StatusEnum status) {
+        this.status = status;
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
+
+/**
+ * 类级别@EnumDesc，生成getStatusDesc()
+ *
+ * @since 2026/10/17
+ */
+@EnumDesc
+public class OrderDto implements StatusDescAware {
+
+    private final StatusEnum status;
+
+    public OrderDto(StatusEnum status) {
+        this.status = status;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
+
+/**
+ * 生成排序键：getStatusDescRank()及STATUS_DESC_ORDER，按拼音排序
+ *
+ * @since 2026/10/17
+ */
+@EnumDesc(rank = true, collator = "zh_CN")
+public class SortedOrderDto {
+
+    private final StatusEnum status;
+
+    public SortedOrderDto(StatusEnum status) {
+        this.status = status;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+}
@@ -0,0 +1,12 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+/**
+ * 由生成的getStatusDesc()实现，用于构造多态调用点
+ *
+ * @since 2026/10/17
+ */
+public interface StatusDescAware {
+
+    String getStatusDesc();
+
+}
@@ -0,0 +1,48 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+import io.github.hyuga0410.lombok.enums.annotations.EnumLookup;
+
+/**
+ * 订单状态
+ *
+ * @since 2026/10/17
+ */
+@EnumLookup(parse = "desc")
+public enum StatusEnum {
+
+    UNPAID(10, "待支付", "等待买家付款", "payment"),
+    PAID(20, "已支付", "买家已付款", "payment"),
+    SHIPPED(30, "已发货", "卖家已发货", "logistics"),
+    RECEIVED(40, "已签收", "买家已签收", "logistics"),
+    CLOSED(50, "已关闭", "交易关闭", "finish"),
+    REFUNDED(60, "已退款", "退款成功", "finish");
+
+    private final int code;
+    private final String desc;
+    private final String label;
+    private final String group;
+
+    StatusEnum(int code, String desc, String label, String group) {
+        this.code = code;
+        this.desc = desc;
+        this.label = label;
+        this.group = group;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+}
@@ -0,0 +1,22 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+/**
+ * 多态调用点使用的枚举
+ *
+ * @since 2026/10/17
+ */
+public enum TagEnum {
+
+    HOT("热销"), NEW("新品"), SALE("促销"), LIMITED("限量");
+
+    private final String desc;
+
+    TagEnum(String desc) {
+        this.desc = desc;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+
+}
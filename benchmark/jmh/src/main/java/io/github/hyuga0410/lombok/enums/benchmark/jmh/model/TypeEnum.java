@@ -0,0 +1,22 @@
+package io.github.hyuga0410.lombok.enums.benchmark.jmh.model;
+
+/**
+ * 多态调用点使用的枚举
+ *
+ * @since 2026/10/17
+ */
+public enum TypeEnum {
+
+    NORMAL("普通订单"), PRESALE("预售订单"), GROUP("拼团订单"), SECKILL("秒杀订单");
+
+    private final String desc;
+
+    TypeEnum(String desc) {
+        this.desc = desc;
+    }
+
+    public String getDesc() {
+        return desc;
+    }
+
+}
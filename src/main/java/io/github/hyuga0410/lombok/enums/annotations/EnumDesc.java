@@ -12,19 +12,144 @@ import java.lang.annotation.*;
  */
 @Documented
 @Target({ElementType.TYPE, ElementType.FIELD})
-@Retention(RetentionPolicy.SOURCE)
+@Retention(RetentionPolicy.CLASS)
 @SuppressWarnings("unused")
 public @interface EnumDesc {
 
     /**
      * 注意： <br>
      * - 不支持在Enum类上使用@EnumDesc <br>
-     * - 不支持attributes属性为非String类型（编译失败） <br>
+     * - 生成方法的返回值类型与枚举中对应get方法的返回值类型一致（如int、long、BigDecimal），枚举字段为null时返回 {@link #nullDefault()} <br>
      * - @EnumDesc支持在常规类上使用，且类成员变量有枚举变量，且枚举变量的属性中有 {@code attributes} 所包含的常量名和对应的get方法（常规类使用仅desc生效） <br>
-     * - @EnumDesc支持在常规类中的枚举成员变量上使用，效果同上，同时支持添加枚举中存在的String类型常量到 {@code attributes}（不可添加非String类型常量和非public方法）
+     * - @EnumDesc支持在常规类中的枚举成员变量上使用，效果同上，同时支持添加枚举中存在的常量到 {@code attributes}（不可添加非public方法） <br>
+     * - 枚举数组及集合字段同样生成方法，返回值见 {@link #separator()} <br>
+     * - 支持在record及record组件上使用，生成与组件访问方法风格一致的方法，如 {@code statusDesc()}
      *
      * @return String[]
      */
     String[] attributes() default {EnumConstants.DESC};
 
+    /**
+     * 枚举字段为null时生成方法的返回值 <br>
+     * - String：直接返回该值，默认"" <br>
+     * - 基本类型及其包装类型：按对应类型解析（如 "-1"、"true"），为空时基本类型返回0/false，包装类型返回null <br>
+     * - 其他类型：只能为空，返回null
+     *
+     * @return String
+     */
+    String nullDefault() default "";
+
+    /**
+     * 是否预计算属性值 <br>
+     * 开启后在本类初始化时对每个枚举常量调用一次get方法，结果按ordinal存入静态数组，生成的方法只读取数组，
+     * 适用于get方法中有格式化、拼接、查询资源包等计算的属性 <br>
+     * - get方法的返回值需在枚举初始化后保持不变 <br>
+     * - 返回值为泛型类型（如List&lt;String&gt;）时不预计算
+     *
+     * @return boolean
+     */
+    boolean memoize() default false;
+
+    /**
+     * 枚举数组及集合字段（如 StatusEnum[]、List&lt;StatusEnum&gt;、EnumSet&lt;TagEnum&gt;）的分隔符 <br>
+     * - 为空时生成的方法返回按元素顺序的 {@code List}（如 {@code List<String> getTagsDesc()}），按元素数量预分配 <br>
+     * - 不为空时返回以该分隔符拼接的字符串（如 ", " -> "标签1, 标签2"） <br>
+     * - 元素为null时使用 {@link #nullDefault()}，字段为null时返回空List或""
+     *
+     * @return String
+     */
+    String separator() default "";
+
+    /**
+     * 是否生成排序键 <br>
+     * 开启后为返回值为String的属性额外生成 {@code int getStatusDescRank()} 及 {@code public static final Comparator STATUS_DESC_ORDER}，
+     * 排名在本类初始化时按 {@link #collator()} 对全部常量排序一次，存入以ordinal为下标的静态数组，排序时只比较int <br>
+     * - 属性值相同的常量排名相同，属性值为null的常量排在最前 <br>
+     * - 枚举字段为null时排名为-1，排在最前
+     *
+     * @return boolean
+     */
+    boolean rank() default false;
+
+    /**
+     * 排序键使用的 {@link java.text.Collator} 的locale 如："zh_CN"（按拼音排序） <br>
+     * 为空时按 {@link String#compareTo(String)} 排序
+     *
+     * @return String
+     */
+    String collator() default "";
+
+    /**
+     * 是否生成枚举字段的二进制编解码方法（仅类上的配置生效） <br>
+     * 开启后生成 {@code ByteBuffer encodeEnums(ByteBuffer out)} 及 {@code void decodeEnums(ByteBuffer in)}，
+     * 按字段声明顺序写入本类中生成方法的非static枚举字段（不含枚举数组及集合字段）： <br>
+     * - 4字节的结构哈希：类初始化时按各字段枚举的常量名及顺序计算，解码时不一致（如常量调整了顺序）抛出IllegalStateException <br>
+     * - null位图：每8个字段1字节 <br>
+     * - 非null字段的ordinal：varint，常量少于128个时为1字节 <br>
+     * 字段不能为final
+     *
+     * @return boolean
+     */
+    boolean codec() default false;
+
+    /**
+     * 资源包基础名 如："i18n.messages"（对应i18n/messages_zh_CN.properties等） <br>
+     * 指定后在编译期读取资源包，为返回值为String的属性额外生成 {@code getStatusDesc(Locale)}，
+     * 返回值按常量预先存入各语言的静态数组，运行时只按Locale选择数组并按ordinal读取 <br>
+     * - 键为 {@code <枚举类名>.<常量名>.<属性名>}，如：StatusEnum.PAID.desc <br>
+     * - 按ResourceBundle的顺序回退（zh_CN -> zh -> 基础资源包），任一常量缺少键时编译报错 <br>
+     * - 资源包从源码路径、编译输出目录、类路径及处理器参数 {@code lombok.enums.resources} 指定的目录中查找；指定该参数时处理器不声明isolating，Gradle还需将资源目录声明为编译任务的输入
+     *
+     * @return String
+     */
+    String bundle() default "";
+
+    /**
+     * 资源包的语言 如：{"zh_CN", "en", "ja"} <br>
+     * 运行时依次按语言及国家、语言匹配，均不匹配或Locale为null时使用基础资源包，不存在基础资源包时使用第一个语言
+     *
+     * @return String[]
+     */
+    String[] locales() default {};
+
+    /**
+     * 枚举字段所在的路径 如："customer.level"，只能标注在非枚举类型的字段上 <br>
+     * 编译期按路径逐级查找get方法、record访问方法或字段，最后一级须为枚举，否则编译报错；
+     * 生成的方法逐级判断null，任一级为null时返回 {@link #nullDefault()}，方法名由字段名及路径拼接，
+     * 如字段order生成 {@code getOrderCustomerLevelDesc()} <br>
+     * - 支持 {@link #nullDefault()}、{@link #memoize()}，不支持排序键及资源包 <br>
+     * - 只适用于修改语法树的默认后端
+     *
+     * @return String
+     */
+    String path() default "";
+
+    /**
+     * 是否生成列描述，只在类上生效 <br>
+     * 生成 {@code COLUMN_NAMES}、{@code COLUMN_TYPES} 及 {@code readColumn(int)}：按字段声明顺序包含全部实例字段，每个字段后紧跟为其生成的方法，
+     * 导出Excel、CSV等可按下标读取列值，不使用反射，也不需要在启动时为每个类创建MethodHandle <br>
+     * - 基本类型的值装箱后返回；COLUMN_NAMES、COLUMN_TYPES为共享数组，请勿修改 <br>
+     * - 只适用于修改语法树的默认后端
+     *
+     * @return boolean
+     */
+    boolean columns() default false;
+
+    /**
+     * 组合描述模板 如："{code}-{desc}"、"[{group}] {desc}"，{xxx}为枚举中getXxx()的返回值，{{、}}表示花括号本身 <br>
+     * 本类初始化时对每个枚举常量按模板拼接一次，结果按ordinal存入静态数组，生成的 {@code getStatusLabel()} 只读取数组，不再每次拼接 <br>
+     * - 模板中的属性在编译期校验；属性值为null时拼接为"null"，枚举字段为null时返回 {@link #nullDefault()} <br>
+     * - 只适用于枚举字段，只适用于修改语法树的默认后端
+     *
+     * @return String
+     */
+    String format() default "";
+
+    /**
+     * 组合描述的方法名后缀，默认"label"，即生成 {@code getStatusLabel()}，不能与 {@link #attributes()} 中的属性重名
+     *
+     * @return String
+     */
+    String formatName() default "label";
+
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package io.github.hyuga0410.lombok.enums.annotations;
+
+import io.github.hyuga0410.lombok.enums.constants.EnumConstants;
+
+import java.lang.annotation.*;
+
+/**
+ * 枚举编码索引 对Enum类自动生成静态的 {@code of(code)} / {@code ofNullable(code)} 方法，
+ * 以及按属性值解析的 {@code parseDesc(CharSequence)} 方法（见 {@link #parse()}）
+ * <p>
+ * 索引在枚举类初始化时构建一次，查询时不再调用{@code values()}，也不存在装箱：
+ * <br>
+ * - 编码连续且范围较小时使用以编码为下标的稠密数组 <br>
+ * - 编码稀疏时使用基于原始类型数组的开放寻址表
+ * <p>
+ * 索引紧跟在枚举常量之后、枚举中其他静态字段及静态代码块之前初始化，静态代码块中可以调用生成的方法；因此code及parse对应的get方法不能读取枚举中的静态字段
+ *
+ * @since 2026/10/17
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+@SuppressWarnings("unused")
+public @interface EnumLookup {
+
+    /**
+     * 注意： <br>
+     * - 仅支持在Enum类上使用@EnumLookup <br>
+     * - 枚举中需存在 {@code code} 对应的public get方法，且返回值为int、long（short、byte、char按int处理） <br>
+     * - 枚举中已存在参数为编码类型的of、ofNullable方法时不再生成；已存在参数为其他基本类型或包装类型的同名方法时给出警告并不生成，不生成ofNullable时of也不生成；参数为其他类型（如 {@code of(String)}）的同名方法不影响生成 <br>
+     * - 为空时不生成of、ofNullable，只生成 {@link #parse()} 的方法
+     *
+     * @return String
+     */
+    String code() default EnumConstants.CODE;
+
+    /**
+     * 按属性值解析枚举常量的属性 如：{"desc"}，生成 {@code parseDesc(CharSequence)} 及 {@code parseDesc(CharSequence, int, int)} <br>
+     * - 属性对应的get方法返回值须为String，常量间重复时保留声明在前的常量，值为null的常量不参与解析 <br>
+     * - 属性值的哈希在枚举类初始化时预计算，解析时逐字符计算哈希并逐字符比较，不创建String，不装箱 <br>
+     * - 区间重载用于直接传入读取缓冲区（如CharBuffer、StringBuilder）中的一段，不存在时返回null
+     *
+     * @return String[]
+     */
+    String[] parse() default {};
+
+}
@@ -9,6 +9,7 @@ package io.github.hyuga0410.lombok.enums.constants;
 public interface EnumConstants {
 
     String DESC = "desc";
+    String CODE = "code";
     String GET_CONTEXT = "getContext";
     int JDK_17 = 17;
     String RELEASE_17 = "RELEASE_17";
@@ -26,4 +27,21 @@ public interface EnumConstants {
     String JAVA_UTIL_OPTIONAL = "java.util.Optional";
     String JAVA_LANG_MODULE_LAYER = "java.lang.ModuleLayer";
 
+    String DIAGNOSTICS_OPTION = "lombok.enums.diagnostics";
+    String DIAGNOSTICS_FILE_OPTION = "lombok.enums.diagnostics.file";
+    String DIAGNOSTICS_TOP_OPTION = "lombok.enums.diagnostics.top";
+
+    String REGISTRY_OPTION = "lombok.enums.registry";
+
+    String BACKEND_OPTION = "lombok.enums.backend";
+    String BACKEND_FILER = "filer";
+
+    String ACCESSOR_OPTION = "lombok.enums.accessor";
+    String ACCESSOR_SHARED = "shared";
+
+    String RESOURCES_OPTION = "lombok.enums.resources";
+
+    String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+    String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
+
 }
\ No newline at end of file
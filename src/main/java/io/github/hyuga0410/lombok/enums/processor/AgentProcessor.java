@@ -1,10 +1,13 @@
 package io.github.hyuga0410.lombok.enums.processor;
 
 import com.sun.tools.javac.api.JavacTrees;
+import com.sun.tools.javac.code.Flags;
 import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.code.TypeTag;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.TreeMaker;
 import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.Name;
 import com.sun.tools.javac.util.Names;
 import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
 import io.github.hyuga0410.lombok.enums.constants.EnumConstants;
@@ -13,10 +16,23 @@ import sun.misc.Unsafe;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -48,6 +64,23 @@ public abstract class AgentProcessor extends AbstractProcessor {
      * 这不是任何受支持的API的一部分。如果您编写依赖于此的代码，您将自行承担风险。此代码及其内部接口如有更改或删除，恕不另行通知。
      */
     protected Names names;
+    /**
+     * 诊断信息，由{@link AnnotationProcessor}根据处理器参数设置
+     */
+    protected ProcessorDiagnostics diagnostics = ProcessorDiagnostics.DISABLED;
+    /**
+     * 本次编译的枚举元数据缓存，按枚举的TypeSymbol缓存，由{@link AnnotationProcessor}在各处理器间共享并在每轮开始时清空
+     */
+    Map<TypeElement, EnumMetadata> enumMetadataCache = new HashMap<>();
+
+    /**
+     * 已解析的getContext访问器，同一ProcessingEnvironment实现类只解析一次
+     */
+    private static volatile ContextAccessor contextAccessor;
+    /**
+     * jdk.compiler内部包是否已开放，同一类加载器只需开放一次
+     */
+    private static boolean opened;
 
     /**
      * 通过将{@code processingEnv}字段设置为{@code processingEnv}参数的值，用处理环境初始化处理器。
@@ -60,21 +93,57 @@ public abstract class AgentProcessor extends AbstractProcessor {
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
+        if (!requiresJavacInternals(processingEnv.getOptions())) {
+            return;
+        }
         this.javacTrees = JavacTrees.instance(processingEnv);
+        try {
+            Context context = getContext(processingEnv);
+            this.treeMaker = TreeMaker.instance(context);
+            this.names = Names.instance(context);
+        } catch (Throwable e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("%s无法获取javac Context：%s", getClass().getSimpleName(), e));
+        }
+    }
 
-        Method[] declaredMethods = processingEnv.getClass().getDeclaredMethods();
-
-        for (Method declaredMethod : declaredMethods) {
-            if (EnumConstants.GET_CONTEXT.equals(declaredMethod.getName())) {
-                try {
-                    Context context = (Context) declaredMethod.invoke(processingEnv, (Object[]) null);
-                    this.treeMaker = TreeMaker.instance(context);
-                    this.names = Names.instance(context);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    e.printStackTrace();
-                }
-            }
+    /**
+     * 释放本次编译的javac引用
+     * <p>
+     * 在最后一轮处理结束后调用。Gradle守护进程、IDE构建进程、mvnd等长期存活的进程即使仍持有处理器实例，
+     * 本次编译的javac Context也可以被回收。子类持有其他编译期对象（如Element）时应一并释放。
+     */
+    protected void release() {
+        this.enumMetadataCache = new HashMap<>();
+        this.javacTrees = null;
+        this.treeMaker = null;
+        this.names = null;
+        this.processingEnv = null;
+    }
+
+    /**
+     * 获取枚举元数据，同一枚举在每轮中只解析一次
+     */
+    protected EnumMetadata enumMetadata(TypeElement type) {
+        return enumMetadataCache.computeIfAbsent(type, key -> EnumMetadata.resolve(key, processingEnv, javacTrees));
+    }
+
+    /**
+     * 获取javac Context
+     * <p>
+     * getContext访问器解析后缓存为MethodHandle，后续编译直接调用，不再反射扫描
+     */
+    private static Context getContext(ProcessingEnvironment processingEnv) throws Throwable {
+        Class<?> type = processingEnv.getClass();
+        ContextAccessor accessor = contextAccessor;
+        if (accessor == null || accessor.type != type) {
+            MethodHandle handle = MethodHandles.lookup()
+                    .findVirtual(type, EnumConstants.GET_CONTEXT, MethodType.methodType(Context.class))
+                    .asType(MethodType.methodType(Context.class, ProcessingEnvironment.class));
+            accessor = new ContextAccessor(type, handle);
+            contextAccessor = accessor;
         }
+        return (Context) accessor.handle.invokeExact(processingEnv);
     }
 
     /**
@@ -119,6 +188,56 @@ public abstract class AgentProcessor extends AbstractProcessor {
      */
     protected abstract Set<String> getAnnotationTypes();
 
+    /**
+     * 是否为isolating处理器（Gradle增量注解处理）
+     * <p>
+     * isolating：只根据被注解元素自身及其AST可达的类型（字段类型、父类等）生成内容，
+     * 生成的文件有且只有一个originating element，见{@link #createSourceFile(CharSequence, Element)}。<br>
+     * 返回false时为aggregating，任一注解元素变化都会触发重新处理全部注解元素。
+     * <p>
+     * 在处理器初始化前调用，只能根据处理器参数判断。
+     *
+     * @param options 处理器参数
+     * @return 默认true
+     */
+    protected boolean isIsolating(Map<String, String> options) {
+        return true;
+    }
+
+    /**
+     * 是否需要javac内部API（修改语法树）
+     * <p>
+     * 返回false时{@link AnnotationProcessor}不开放jdk.compiler内部包，{@link #init(ProcessingEnvironment)}也不获取javac Context，
+     * {@link #javacTrees}、{@link #treeMaker}、{@link #names}均为null，处理器只能使用javax.lang.model及Filer。
+     *
+     * @param options 处理器参数
+     * @return 默认true
+     */
+    protected boolean requiresJavacInternals(Map<String, String> options) {
+        return true;
+    }
+
+    /**
+     * 通过Filer生成源文件
+     * <p>
+     * 以元素所在的顶层类型作为唯一的originating element，Gradle据此在该类型改动或删除时重新生成或清理对应文件。
+     *
+     * @param name    生成类型的全限定名
+     * @param element 触发生成的元素
+     * @return JavaFileObject
+     * @throws IOException 无法创建文件
+     */
+    protected JavaFileObject createSourceFile(CharSequence name, Element element) throws IOException {
+        return processingEnv.getFiler().createSourceFile(name, topLevelType(element));
+    }
+
+    /**
+     * 获取元素所在的顶层类型
+     */
+    protected TypeElement topLevelType(Element element) {
+        return EnumDescSupport.topLevelType(element);
+    }
+
     /**
      * 注解类型比对
      */
@@ -143,6 +262,44 @@ public abstract class AgentProcessor extends AbstractProcessor {
         return classType.supertype_field.baseType().tsym.toString().equals(Enum.class.getCanonicalName());
     }
 
+    /**
+     * 枚举数组或集合字段的元素类型 如：StatusEnum[]、List&lt;StatusEnum&gt;、EnumSet&lt;TagEnum&gt;、Set&lt;? extends TagEnum&gt;
+     * <p>
+     * 集合按实现的{@link Iterable}的类型参数判断，元素不是枚举时返回null
+     */
+    protected Type enumElementType(Type type) {
+        TypeMirror element;
+        if (type instanceof Type.ArrayType arrayType) {
+            element = arrayType.elemtype;
+        } else if (type instanceof Type.ClassType) {
+            element = iterableElementType(type);
+        } else {
+            return null;
+        }
+        if (element instanceof WildcardType wildcard) {
+            element = wildcard.getExtendsBound();
+        }
+        return element instanceof Type.ClassType classType && classType.tsym.getKind() == ElementKind.ENUM ? classType : null;
+    }
+
+    /**
+     * 按直接父类型逐层查找Iterable的类型参数
+     */
+    private TypeMirror iterableElementType(TypeMirror type) {
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        if (element instanceof TypeElement typeElement && typeElement.getQualifiedName().contentEquals(Iterable.class.getName())) {
+            java.util.List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            return arguments.size() == 1 ? arguments.get(0) : null;
+        }
+        for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+            TypeMirror result = iterableElementType(supertype);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
     /**
      * 字符串首字母大写
      */
@@ -154,10 +311,69 @@ public abstract class AgentProcessor extends AbstractProcessor {
         return suffix;
     }
 
+    /**
+     * 生成标识符
+     */
+    protected JCTree.JCIdent ident(String name) {
+        return treeMaker.Ident(names.fromString(name));
+    }
+
+    /**
+     * 根据点分路径生成表达式 如：java.lang.String、this.status
+     */
+    protected JCTree.JCExpression select(String path) {
+        String[] elems = path.split("\\.");
+        JCTree.JCExpression expression = ident(elems[0]);
+        for (int i = 1; i < elems.length; i++) {
+            expression = treeMaker.Select(expression, names.fromString(elems[i]));
+        }
+        return expression;
+    }
+
+    /**
+     * 生成局部变量
+     */
+    protected JCTree.JCVariableDecl localVar(String name, JCTree.JCExpression type, JCTree.JCExpression init) {
+        return treeMaker.VarDef(treeMaker.Modifiers(0), names.fromString(name), type, init);
+    }
+
+    /**
+     * 生成静态字段 private static final
+     */
+    protected JCTree.JCVariableDecl staticField(Name name, JCTree.JCExpression type) {
+        return treeMaker.VarDef(treeMaker.Modifiers(Flags.PRIVATE | Flags.STATIC | Flags.FINAL), name, type, null);
+    }
+
+    /**
+     * 生成赋值语句
+     */
+    protected JCTree.JCExpressionStatement assign(JCTree.JCExpression variable, JCTree.JCExpression value) {
+        return treeMaker.Exec(treeMaker.Assign(variable, value));
+    }
+
+    /**
+     * 生成null判断 expression == null
+     */
+    protected JCTree.JCExpression isNull(JCTree.JCExpression expression) {
+        return treeMaker.Binary(JCTree.Tag.EQ, expression, nullLiteral());
+    }
+
+    /**
+     * 生成null字面量
+     */
+    protected JCTree.JCLiteral nullLiteral() {
+        return treeMaker.Literal(TypeTag.BOT, null);
+    }
+
     /**
      * 开启代理
+     * <p>
+     * 同一类加载器内只执行一次
      */
-    public static void addOpensForAgent() {
+    public static synchronized void addOpensForAgent() {
+        if (opened) {
+            return;
+        }
         Class<?> cModule;
         try {
             cModule = Class.forName(EnumConstants.JAVA_LANG_MODULE);
@@ -189,11 +405,18 @@ public abstract class AgentProcessor extends AbstractProcessor {
             for (String p : allPackages) {
                 m.invoke(jdkCompilerModule, p, ownModule);
             }
-        } catch (Exception ignore) {
-            System.out.println(1);
+            opened = true;
+        } catch (Exception e) {
+            throw new IllegalStateException("无法开放jdk.compiler内部包：" + e, e);
         }
     }
 
+    /**
+     * getContext访问器
+     */
+    private record ContextAccessor(Class<?> type, MethodHandle handle) {
+    }
+
     private static long getFirstFieldOffset(Unsafe unsafe) {
         try {
             return unsafe.objectFieldOffset(Parent.class.getDeclaredField(EnumConstants.FIRST));
@@ -1,9 +1,10 @@
 package io.github.hyuga0410.lombok.enums.processor;
 
+import io.github.hyuga0410.lombok.enums.constants.EnumConstants;
+
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
-import java.io.InputStream;
 import java.util.*;
 
 /**
@@ -18,30 +19,44 @@ import java.util.*;
  */
 public class AnnotationProcessor extends AbstractProcessor {
 
-    private static final List<AgentProcessor> PROCESSORS = new ArrayList<>();
+    /**
+     * 本次编译使用的处理器
+     * <p>
+     * 通过{@link ServiceLoader}发现（META-INF/services/io.github.hyuga0410.lombok.enums.processor.AgentProcessor），
+     * 处理器的构造器不访问javac内部API，创建开销可以忽略。<br>
+     * 每次编译（每个AnnotationProcessor实例）单独创建，处理器之间不共享上一次编译的状态，保证增量编译时输出只取决于本次参与编译的元素
+     */
+    private final List<AgentProcessor> processors = new ArrayList<>();
+
+    /**
+     * 本次编译的诊断信息
+     */
+    private ProcessorDiagnostics diagnostics = ProcessorDiagnostics.DISABLED;
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * 已启动的处理器：需要时开放jdk.compiler内部包并初始化
+     * <p>
+     * 每个处理器延迟到第一次出现其支持的注解的轮次，未使用注解的模块不会产生任何启动开销；
+     * 不需要javac内部API的处理器（见{@link AgentProcessor#requiresJavacInternals(Map)}）不会触发开放内部包；
+     * 按启动顺序释放，与处理器的哈希值无关
+     */
+    private final Set<AgentProcessor> started = new LinkedHashSet<>();
 
     /**
-     * 自定义lombok注解处理器路径
+     * 各处理器共享的枚举元数据缓存
+     * <p>
+     * javac在新的一轮会重新进入源码中的类，缓存在每轮开始时清空
      */
-    private static final String META_INF_PATH = "/META-INF/services/io.github.hyuga0410.lombok.Processors";
+    private final Map<TypeElement, EnumMetadata> enumMetadataCache = new HashMap<>();
 
-    static {
+    public AnnotationProcessor() {
         try {
-            // 开启代理
-            AgentProcessor.addOpensForAgent();
-
-            InputStream resourceAsStream = AnnotationProcessor.class.getResourceAsStream(META_INF_PATH);
-            Properties properties = new Properties();
-            properties.load(resourceAsStream);
-
-            ClassLoader loader = AgentProcessor.class.getClassLoader();
-            for (Object value : properties.keySet()) {
-                Class<?> loadClass = loader.loadClass(value.toString());
-                Object o = loadClass.getDeclaredConstructor().newInstance();
-                PROCESSORS.add((AgentProcessor) o);
+            for (AgentProcessor processor : ServiceLoader.load(AgentProcessor.class, AgentProcessor.class.getClassLoader())) {
+                processors.add(processor);
             }
-        } catch (Exception e) {
-            e.printStackTrace();
+        } catch (ServiceConfigurationError e) {
+            errors.add("无法加载处理器：" + e.getMessage());
         }
     }
 
@@ -55,9 +70,41 @@ public class AnnotationProcessor extends AbstractProcessor {
      */
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
-        for (AgentProcessor processor : PROCESSORS) {
-            processor.init(processingEnv);
+        super.init(processingEnv);
+        diagnostics = ProcessorDiagnostics.create(processingEnv);
+        errors.forEach(error -> diagnostics.error(processingEnv.getMessager(), error));
+    }
+
+    /**
+     * 启动处理器：需要时开放jdk.compiler内部包，并以本次编译的处理环境初始化
+     */
+    private void start(AgentProcessor processor) {
+        started.add(processor);
+        long start = System.nanoTime();
+        if (processor.requiresJavacInternals(processingEnv.getOptions())) {
+            try {
+                AgentProcessor.addOpensForAgent();
+            } catch (Exception e) {
+                diagnostics.error(processingEnv.getMessager(), e.getMessage());
+            }
         }
+        processor.diagnostics = diagnostics;
+        processor.enumMetadataCache = enumMetadataCache;
+        processor.init(processingEnv);
+        diagnostics.bootstrapFinished(System.nanoTime() - start);
+    }
+
+    /**
+     * 本轮的注解中是否有处理器支持的注解
+     */
+    private static boolean supports(AgentProcessor processor, Set<? extends TypeElement> annotations) {
+        Set<String> types = processor.getSupportedAnnotationTypes();
+        for (TypeElement annotation : annotations) {
+            if (types.contains(annotation.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -75,13 +122,44 @@ public class AnnotationProcessor extends AbstractProcessor {
      */
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (AgentProcessor processor : processors) {
+            if (!started.contains(processor) && supports(processor, annotations)) {
+                start(processor);
+            }
+        }
+        if (started.isEmpty()) {
+            return false;
+        }
         boolean flag = false;
-        for (AgentProcessor processor : PROCESSORS) {
+        diagnostics.roundStarted();
+        enumMetadataCache.clear();
+        for (AgentProcessor processor : processors) {
+            if (!started.contains(processor)) {
+                continue;
+            }
+            long start = System.nanoTime();
             flag = flag | processor.process(annotations, roundEnv);
+            diagnostics.processorFinished(processor, System.nanoTime() - start);
+        }
+        if (roundEnv.processingOver()) {
+            diagnostics.report(processingEnv.getMessager());
+            release();
         }
         return flag;
     }
 
+    /**
+     * 处理结束后释放本次编译的javac引用，见{@link AgentProcessor#release()}
+     */
+    private void release() {
+        for (AgentProcessor processor : started) {
+            processor.release();
+        }
+        started.clear();
+        enumMetadataCache.clear();
+        processingEnv = null;
+    }
+
     /**
      * 需要处理的注解类型
      * <p>
@@ -96,10 +174,60 @@ public class AnnotationProcessor extends AbstractProcessor {
     @Override
     public Set<String> getSupportedAnnotationTypes() {
         Set<String> set = new HashSet<>();
-        for (AgentProcessor processor : PROCESSORS) {
+        for (AgentProcessor processor : processors) {
             set.addAll(processor.getSupportedAnnotationTypes());
         }
         return set;
     }
 
+    /**
+     * 该处理器支持的最新源版本，取各处理器支持的最高版本
+     *
+     * @return 该处理器支持的最新源版本
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        SourceVersion version = SourceVersion.RELEASE_8;
+        for (AgentProcessor processor : processors) {
+            if (processor.getSupportedSourceVersion().compareTo(version) > 0) {
+                version = processor.getSupportedSourceVersion();
+            }
+        }
+        return version;
+    }
+
+    /**
+     * 处理器支持的选项
+     * <p>
+     * 本处理器在META-INF/gradle/incremental.annotation.processors中声明为dynamic，
+     * Gradle根据此处返回的{@link EnumConstants#GRADLE_ISOLATING}或{@link EnumConstants#GRADLE_AGGREGATING}确定增量编译类型：
+     * 所有处理器均为isolating时整体为isolating，修改一个类只需重新编译该类及依赖它的类；
+     * 开启了aggregating功能（如{@link EnumConstants#REGISTRY_OPTION}）时整体为aggregating。
+     * <p>
+     * Gradle要求增量处理器不使用编译器内部API，任一处理器需要javac内部API（见{@link AgentProcessor#requiresJavacInternals(Map)}）时
+     * 不返回增量类型，Gradle按非增量处理器全量编译。Gradle在初始化时读取一次，此时尚未确定本次编译使用哪些处理器，因此按全部处理器判断。
+     *
+     * @return 此处理器支持的选项
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> set = new HashSet<>();
+        set.add(EnumConstants.DIAGNOSTICS_OPTION);
+        set.add(EnumConstants.DIAGNOSTICS_FILE_OPTION);
+        set.add(EnumConstants.DIAGNOSTICS_TOP_OPTION);
+        // 处理结束释放后processingEnv为null
+        Map<String, String> options = processingEnv == null ? Collections.emptyMap() : processingEnv.getOptions();
+        boolean incremental = true;
+        boolean isolating = true;
+        for (AgentProcessor processor : processors) {
+            set.addAll(processor.getSupportedOptions());
+            incremental = incremental && !processor.requiresJavacInternals(options);
+            isolating = isolating && processor.isIsolating(options);
+        }
+        if (incremental) {
+            set.add(isolating ? EnumConstants.GRADLE_ISOLATING : EnumConstants.GRADLE_AGGREGATING);
+        }
+        return set;
+    }
+
 }
@@ -0,0 +1,140 @@
+package io.github.hyuga0410.lombok.enums.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static io.github.hyuga0410.lombok.enums.constants.EnumConstants.RESOURCES_OPTION;
+
+/**
+ * 编译期读取资源包
+ * <p>
+ * 只支持properties格式，与{@link java.util.PropertyResourceBundle}一致：优先按UTF-8读取，不是合法的UTF-8时按ISO-8859-1读取。<br>
+ * 依次从处理器参数 {@code lombok.enums.resources} 指定的目录（以路径分隔符分隔）、源码路径、编译输出目录及类路径中查找，
+ * Maven在编译前已将资源复制到编译输出目录；Gradle的processResources在编译之后执行，需通过处理器参数指定资源目录。<br>
+ * 每次编译每个文件只读取一次。
+ *
+ * @since 2026/10/17
+ */
+class BundleResolver {
+
+    private static final JavaFileManager.Location[] LOCATIONS = {
+            StandardLocation.SOURCE_PATH, StandardLocation.CLASS_OUTPUT, StandardLocation.CLASS_PATH};
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private final ProcessingEnvironment processingEnv;
+    private final java.util.List<Path> directories = new ArrayList<>();
+    /**
+     * 资源文件路径 -> 内容，文件不存在时为null
+     */
+    private final Map<String, Properties> files = new HashMap<>();
+
+    BundleResolver(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+        String resources = processingEnv.getOptions().get(RESOURCES_OPTION);
+        if (resources != null) {
+            for (String directory : resources.split(File.pathSeparator)) {
+                if (!directory.isBlank()) {
+                    directories.add(Path.of(directory.trim()));
+                }
+            }
+        }
+    }
+
+    /**
+     * 解析locale 如：zh_CN、zh-CN、en，不合法时返回null
+     */
+    static Locale parseLocale(String tag) {
+        Locale locale = Locale.forLanguageTag(tag.trim().replace('_', '-'));
+        return locale.getLanguage().isEmpty() ? null : locale;
+    }
+
+    /**
+     * 资源包中是否存在locale对应的文件（不回退）
+     *
+     * @param baseName 资源包基础名 如：i18n.messages
+     * @param locale   {@link Locale#ROOT}表示基础资源包
+     */
+    boolean exists(String baseName, Locale locale) {
+        return load(baseName, locale) != null;
+    }
+
+    /**
+     * 按ResourceBundle的候选顺序查找键 如：zh_CN -> zh -> 基础资源包，不存在时返回null
+     */
+    String get(String baseName, Locale locale, String key) {
+        for (Locale candidate : CONTROL.getCandidateLocales(baseName, locale)) {
+            Properties properties = load(baseName, candidate);
+            if (properties != null && properties.containsKey(key)) {
+                return properties.getProperty(key);
+            }
+        }
+        return null;
+    }
+
+    private Properties load(String baseName, Locale locale) {
+        String path = CONTROL.toResourceName(CONTROL.toBundleName(baseName, locale), "properties");
+        if (files.containsKey(path)) {
+            return files.get(path);
+        }
+        Properties properties = null;
+        try {
+            byte[] bytes = read(path);
+            if (bytes != null) {
+                properties = new Properties();
+                properties.load(new StringReader(decode(bytes)));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException(String.format("无法读取资源文件%s：%s", path, e), e);
+        }
+        files.put(path, properties);
+        return properties;
+    }
+
+    /**
+     * 读取资源文件，不存在时返回null
+     */
+    private byte[] read(String path) throws IOException {
+        for (Path directory : directories) {
+            Path file = directory.resolve(path);
+            if (Files.isRegularFile(file)) {
+                return Files.readAllBytes(file);
+            }
+        }
+        for (JavaFileManager.Location location : LOCATIONS) {
+            try {
+                FileObject resource = processingEnv.getFiler().getResource(location, "", path);
+                try (InputStream in = resource.openInputStream()) {
+                    return in.readAllBytes();
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                // 该位置不存在或未配置，继续查找
+            }
+        }
+        return null;
+    }
+
+    private static String decode(byte[] bytes) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes)).toString();
+        } catch (CharacterCodingException e) {
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+}
@@ -0,0 +1,315 @@
+package io.github.hyuga0410.lombok.enums.processor;
+
+import com.sun.source.util.Trees;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.isAccessible;
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.isMemoizable;
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.isPublic;
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.topLevelType;
+
+/**
+ * 共享属性访问器生成
+ * <p>
+ * 通过处理器参数开启：
+ * <pre>
+ * -Alombok.enums.accessor=shared
+ * </pre>
+ * 每个枚举生成一个访问器类 {@code <枚举名>Descs}（与枚举在同一包中，嵌套枚举拼接外部类名），
+ * 枚举中声明的每个get方法对应一个静态方法，各类中生成的get方法只委托调用，不再各自复制null判断及预计算表：
+ * <pre>
+ * public static String desc(StatusEnum value, String nullDefault) {
+ *     return value == null ? nullDefault : value.getDesc();
+ * }
+ *
+ * // Order中生成的方法
+ * public String getStatusDesc() {
+ *     return demo.StatusEnumDescs.desc(this.status, "");
+ * }
+ * </pre>
+ * - 访问器只依赖枚举本身（originating element为枚举所在的顶层类型），保持isolating <br>
+ * - 非常量的可预计算属性额外生成 {@code memoizedDesc}，预计算表放在按需初始化的内部类中，只在使用时计算 <br>
+ * - 类路径中的枚举不生成访问器，已存在访问器（如由枚举所在模块生成）时直接使用，否则仍在类中生成完整的方法 <br>
+ * - 类路径中已有本处理器上次编译生成的访问器时重新生成；同名类来自本次编译的源码或不是本处理器生成时视为冲突，不生成访问器
+ *
+ * @since 2026/10/17
+ */
+class EnumAccessorGenerator {
+
+    /**
+     * 访问器类名后缀
+     */
+    static final String SUFFIX = "Descs";
+    /**
+     * 预计算方法名前缀
+     */
+    static final String MEMOIZED = "memoized";
+    /**
+     * 访问器中标记生成者的常量名
+     * <p>
+     * 源码中的生成者只写在注释中，类文件中的访问器通过该常量识别
+     */
+    static final String GENERATOR = "GENERATOR";
+
+    private static final String INDENT = "    ";
+
+    private final ProcessingEnvironment processingEnv;
+    private final Trees trees;
+    /**
+     * 枚举全限定名 -> 访问器，不可用时为{@link Accessor#NONE}
+     * <p>
+     * 按名称而不是元素缓存：javac在新的一轮会重新进入源码中的类
+     */
+    private final Map<String, Accessor> accessors = new HashMap<>();
+    /**
+     * 本轮待生成的访问器
+     */
+    private final List<Accessor> pending = new ArrayList<>();
+
+    EnumAccessorGenerator(ProcessingEnvironment processingEnv, Trees trees) {
+        this.processingEnv = processingEnv;
+        this.trees = trees;
+    }
+
+    /**
+     * 获取属性的共享访问方法
+     *
+     * @param metadata 枚举元数据
+     * @param getter   枚举中的get方法
+     * @param memoize  是否使用预计算方法
+     * @return 访问方法的全限定名，如：demo.StatusEnumDescs.desc；不可用时返回null
+     */
+    String method(EnumMetadata metadata, EnumMetadata.Getter getter, boolean memoize) {
+        Accessor accessor = accessors.computeIfAbsent(metadata.getType().getQualifiedName().toString(), key -> resolve(metadata));
+        String attribute = accessor.methods.get(getter.name().toString());
+        if (attribute == null) {
+            return null;
+        }
+        if (memoize && accessor.memoized.contains(attribute)) {
+            return accessor.name + "." + MEMOIZED + Character.toUpperCase(attribute.charAt(0)) + attribute.substring(1);
+        }
+        return accessor.name + "." + attribute;
+    }
+
+    /**
+     * 生成本轮新增的访问器
+     */
+    void generate() {
+        for (Accessor accessor : pending) {
+            try {
+                JavaFileObject source = processingEnv.getFiler().createSourceFile(accessor.name, accessor.origin);
+                try (Writer writer = source.openWriter()) {
+                    writer.write(accessor.source);
+                }
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("无法生成访问器%s：%s", accessor.name, e), accessor.origin);
+            }
+        }
+        pending.clear();
+    }
+
+    private Accessor resolve(EnumMetadata metadata) {
+        TypeElement type = metadata.getType();
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        if (!isAccessible(type, packageName)) {
+            return Accessor.NONE;
+        }
+        // 嵌套枚举拼接外部类名 如：demo.Order.Status -> OrderStatusDescs
+        String simpleName = type.getQualifiedName().toString().substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+                .replace(".", "") + SUFFIX;
+        String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        TypeElement existing = processingEnv.getElementUtils().getTypeElement(name);
+
+        if (!metadata.isSource()) {
+            return existing == null ? Accessor.NONE : reuse(existing, metadata);
+        }
+        if (existing != null && (trees.getPath(existing) != null || !isGenerated(existing))) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("%s已存在，%s不生成共享访问器", name, type.getQualifiedName()), type);
+            return Accessor.NONE;
+        }
+
+        Accessor accessor = new Accessor(name, topLevelType(type));
+        StringBuilder methods = new StringBuilder(1024);
+        StringBuilder tables = new StringBuilder();
+        String enumName = type.getQualifiedName().toString();
+        for (EnumMetadata.Getter getter : metadata.getDeclaredGetters()) {
+            String attribute = attribute(getter.name().toString());
+            if (attribute == null) {
+                continue;
+            }
+            TypeMirror returnType = getter.returnType();
+            accessor.methods.put(getter.name().toString(), attribute);
+            appendMethod(methods, returnType, attribute, enumName, "value." + getter.name() + "()");
+            if (!getter.constant() && isMemoizable(returnType)) {
+                String table = Character.toUpperCase(attribute.charAt(0)) + attribute.substring(1) + "Table";
+                accessor.memoized.add(attribute);
+                appendMethod(methods, returnType, MEMOIZED + Character.toUpperCase(attribute.charAt(0)) + attribute.substring(1),
+                        enumName, table + ".VALUES[value.ordinal()]");
+                appendTable(tables, table, returnType, enumName, getter.name().toString());
+            }
+        }
+
+        StringBuilder out = new StringBuilder(methods.length() + tables.length() + 512);
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n * ").append(type.getSimpleName()).append("的属性访问器 由lombok-enum-component生成，请勿修改\n")
+                .append(" * 生成者：").append(EnumDescProcessor.class.getName()).append("\n */\n")
+                .append(isPublic(type) ? "public " : "").append("final class ").append(simpleName).append(" {\n\n")
+                .append(INDENT).append("private static final String ").append(GENERATOR).append(" = \"")
+                .append(EnumDescProcessor.class.getName()).append("\";\n\n")
+                .append(INDENT).append("private ").append(simpleName).append("() {\n")
+                .append(INDENT).append("}\n\n")
+                .append(methods)
+                .append(tables)
+                .append("}\n");
+        accessor.source = out.toString();
+        pending.add(accessor);
+        return accessor;
+    }
+
+    /**
+     * 是否为本处理器生成的访问器：包含值为处理器类名的{@link #GENERATOR}常量
+     */
+    private static boolean isGenerated(TypeElement existing) {
+        for (VariableElement field : ElementFilter.fieldsIn(existing.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(GENERATOR)) {
+                return EnumDescProcessor.class.getName().equals(field.getConstantValue());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 使用已存在的访问器：按方法名及参数匹配
+     */
+    private static Accessor reuse(TypeElement existing, EnumMetadata metadata) {
+        Set<String> methods = new HashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(existing.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.STATIC) && method.getParameters().size() == 2) {
+                methods.add(method.getSimpleName().toString());
+            }
+        }
+        Accessor accessor = new Accessor(existing.getQualifiedName().toString(), existing);
+        for (EnumMetadata.Getter getter : metadata.getDeclaredGetters()) {
+            String attribute = attribute(getter.name().toString());
+            if (attribute != null && methods.contains(attribute)) {
+                accessor.methods.put(getter.name().toString(), attribute);
+                if (methods.contains(MEMOIZED + Character.toUpperCase(attribute.charAt(0)) + attribute.substring(1))) {
+                    accessor.memoized.add(attribute);
+                }
+            }
+        }
+        return accessor;
+    }
+
+    /**
+     * get方法对应的属性名 如：getDesc -> desc，不是getXxx或属性名为关键字时返回null
+     */
+    private static String attribute(String getter) {
+        if (getter.length() <= 3 || !getter.startsWith("get") || !Character.isUpperCase(getter.charAt(3))) {
+            return null;
+        }
+        String attribute = Character.toLowerCase(getter.charAt(3)) + getter.substring(4);
+        return SourceVersion.isKeyword(attribute) ? null : attribute;
+    }
+
+    /**
+     * 生成访问方法：无默认值及指定默认值两个重载
+     */
+    private static void appendMethod(StringBuilder out, TypeMirror returnType, String name, String enumName, String value) {
+        out.append(INDENT).append("public static ").append(returnType).append(' ').append(name)
+                .append('(').append(enumName).append(" value) {\n")
+                .append(INDENT).append(INDENT).append("return ").append(name).append("(value, ").append(defaultValue(returnType)).append(");\n")
+                .append(INDENT).append("}\n\n");
+        out.append(INDENT).append("public static ").append(returnType).append(' ').append(name)
+                .append('(').append(enumName).append(" value, ").append(returnType).append(" nullDefault) {\n")
+                .append(INDENT).append(INDENT).append("return value == null ? nullDefault : ").append(value).append(";\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    /**
+     * 预计算表 以枚举ordinal为下标，内部类在第一次调用预计算方法时初始化
+     */
+    private static void appendTable(StringBuilder out, String table, TypeMirror type, String enumName, String getter) {
+        out.append(INDENT).append("private static final class ").append(table).append(" {\n\n")
+                .append(INDENT).append(INDENT).append("private static final ").append(type).append("[] VALUES;\n\n")
+                .append(INDENT).append(INDENT).append("static {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append(enumName).append("[] values = ").append(enumName).append(".values();\n")
+                .append(INDENT).append(INDENT).append(INDENT).append(type).append("[] table = new ").append(type).append("[values.length];\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("for (int i = 0; i < values.length; i++) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append(INDENT).append("table[i] = values[i].").append(getter).append("();\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("VALUES = table;\n")
+                .append(INDENT).append(INDENT).append("}\n\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    /**
+     * 类型的默认值
+     */
+    private static String defaultValue(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case CHAR:
+                return "'\\0'";
+            case BYTE:
+                return "(byte) 0";
+            case SHORT:
+                return "(short) 0";
+            case INT:
+                return "0";
+            case LONG:
+                return "0L";
+            case FLOAT:
+                return "0F";
+            case DOUBLE:
+                return "0D";
+            default:
+                return "null";
+        }
+    }
+
+    /**
+     * 单个枚举的访问器
+     */
+    private static class Accessor {
+
+        /**
+         * 不可用：枚举不可访问、类路径中不存在访问器或存在同名类
+         */
+        private static final Accessor NONE = new Accessor(null, null);
+
+        private final String name;
+        private final Element origin;
+        /**
+         * 枚举中的get方法名 -> 访问方法名
+         */
+        private final Map<String, String> methods = new HashMap<>();
+        /**
+         * 有预计算方法的属性
+         */
+        private final Set<String> memoized = new HashSet<>();
+        private String source;
+
+        private Accessor(String name, Element origin) {
+            this.name = name;
+            this.origin = origin;
+        }
+
+    }
+
+}
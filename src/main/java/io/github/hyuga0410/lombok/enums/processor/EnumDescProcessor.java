@@ -1,37 +1,98 @@
 package io.github.hyuga0410.lombok.enums.processor;
 
+import com.sun.source.tree.MemberReferenceTree;
 import com.sun.source.tree.Tree;
-import com.sun.tools.javac.code.Attribute;
+import com.sun.tools.javac.code.BoundKind;
 import com.sun.tools.javac.code.Flags;
 import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.TypeTag;
 import com.sun.tools.javac.tree.JCTree;
-import com.sun.tools.javac.tree.TreeTranslator;
+import com.sun.tools.javac.tree.TreeInfo;
 import com.sun.tools.javac.util.List;
 import com.sun.tools.javac.util.ListBuffer;
 import com.sun.tools.javac.util.Name;
-import com.sun.tools.javac.util.Pair;
 import io.github.hyuga0410.lombok.enums.annotations.EnumDesc;
 
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
-import javax.lang.model.element.Element;
-import javax.lang.model.element.ElementKind;
-import javax.lang.model.element.TypeElement;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import java.util.*;
 
+import static io.github.hyuga0410.lombok.enums.constants.EnumConstants.ACCESSOR_OPTION;
+import static io.github.hyuga0410.lombok.enums.constants.EnumConstants.ACCESSOR_SHARED;
+import static io.github.hyuga0410.lombok.enums.constants.EnumConstants.BACKEND_FILER;
+import static io.github.hyuga0410.lombok.enums.constants.EnumConstants.BACKEND_OPTION;
 import static io.github.hyuga0410.lombok.enums.constants.EnumConstants.DESC;
+import static io.github.hyuga0410.lombok.enums.constants.EnumConstants.REGISTRY_OPTION;
+import static io.github.hyuga0410.lombok.enums.constants.EnumConstants.RESOURCES_OPTION;
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.constantCase;
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.isMemoizable;
 
 /**
  * 枚举描述方法生成处理
+ * <p>
+ * 默认修改语法树，在类中生成get方法；{@code -Alombok.enums.backend=filer}时改为通过Filer生成伴生类，见{@link EnumDescsGenerator}。<br>
+ * 修改语法树时可通过{@code -Alombok.enums.accessor=shared}为每个枚举生成共享访问器，类中的get方法只委托调用，见{@link EnumAccessorGenerator}
  *
  * @author pengqinglong
  * @since 2022/5/9
  */
 public class EnumDescProcessor extends AgentProcessor {
 
+    /**
+     * 输出所有生成属性的方法名
+     */
+    private static final String WRITE_ENUM_DESCS = "writeEnumDescs";
+    /**
+     * 枚举字段编解码方法名
+     */
+    private static final String ENCODE_ENUMS = "encodeEnums";
+    private static final String DECODE_ENUMS = "decodeEnums";
+    private static final String WRITE_VARINT = "$writeVarint";
+    private static final String READ_VARINT = "$readVarint";
+    /**
+     * 列描述的字段名及方法名
+     */
+    private static final String COLUMN_NAMES = "COLUMN_NAMES";
+    private static final String COLUMN_TYPES = "COLUMN_TYPES";
+    private static final String READ_COLUMN = "readColumn";
+
+    /**
+     * 枚举字典注册表，未开启时为null
+     */
+    private EnumRegistryGenerator registry;
+    /**
+     * 伴生类生成，filer后端时不为null
+     */
+    private EnumDescsGenerator companions;
+    /**
+     * 共享访问器生成，未开启时为null
+     */
+    private EnumAccessorGenerator accessors;
+    /**
+     * 资源包读取，首次使用bundle时创建
+     */
+    private BundleResolver bundles;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        if (isFilerBackend(processingEnv.getOptions())) {
+            companions = new EnumDescsGenerator(processingEnv);
+        } else if (ACCESSOR_SHARED.equalsIgnoreCase(String.valueOf(processingEnv.getOptions().get(ACCESSOR_OPTION)).trim())) {
+            accessors = new EnumAccessorGenerator(processingEnv, javacTrees);
+        }
+        String registryName = processingEnv.getOptions().get(REGISTRY_OPTION);
+        if (isRegistryEnabled(processingEnv.getOptions())) {
+            registry = new EnumRegistryGenerator(registryName.trim());
+        }
+    }
+
     /**
      * 处理来自上一轮的类型元素的一组注释接口，并返回此处理器是否声称这些注释接口。
      * <p>
@@ -47,189 +108,1038 @@ public class EnumDescProcessor extends AgentProcessor {
      */
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        // 获取环境中注释的@EnumDesc元素
-        Set<? extends Element> enumDescList = roundEnv.getElementsAnnotatedWith(EnumDesc.class);
+        // 获取环境中注释的@EnumDesc元素，按所在类分组，每个类只获取一次语法树
+        Map<TypeElement, ClassContext> contexts = new LinkedHashMap<>();
+        Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(EnumDesc.class);
+        diagnostics.elementsVisited(this, elements.size());
+        for (Element element : elements) {
+            if (Objects.equals(ElementKind.FIELD, element.getKind())) {
+                // 字段处理
+                TypeElement type = (TypeElement) element.getEnclosingElement();
+                contexts.computeIfAbsent(type, ClassContext::new).fields.add(element);
+            } else if (Objects.equals(ElementKind.CLASS, element.getKind()) || Objects.equals(ElementKind.RECORD, element.getKind())) {
+                // class及record处理
+                contexts.computeIfAbsent((TypeElement) element, ClassContext::new).annotated = true;
+            }
+        }
+
+        // 先处理类上标注@EnumDesc的类（会一并处理其成员内部类），再处理仅字段标注@EnumDesc的类
+        if (companions != null) {
+            processCompanions(contexts);
+        } else {
+            processTrees(contexts);
+            if (accessors != null) {
+                accessors.generate();
+            }
+        }
+
+        if (registry != null) {
+            if (roundEnv.processingOver()) {
+                registry.finish(processingEnv);
+            } else {
+                registry.generate(processingEnv);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 修改语法树：在类中生成方法
+     */
+    private void processTrees(Map<TypeElement, ClassContext> contexts) {
+        Set<TypeElement> handled = new HashSet<>();
+        for (boolean annotated : new boolean[]{true, false}) {
+            for (ClassContext context : contexts.values()) {
+                if (context.annotated != annotated || handled.contains(context.type)) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                JCTree.JCClassDecl classDecl = javacTrees.getTree(context.type);
+                handleClass(classDecl, context, contexts, handled);
+                diagnostics.classProcessed(this, context.type.getQualifiedName(), System.nanoTime() - start);
+            }
+        }
+    }
 
-        // 字段处理
-        enumDescList.stream()
-                .filter(element -> Objects.equals(ElementKind.FIELD, element.getKind()))
-                .forEach(this::handleField);
+    /**
+     * filer后端：按顶层类型收集方法，每个顶层类型生成一个伴生类
+     * <p>
+     * 只使用javax.lang.model，不访问语法树
+     */
+    private void processCompanions(Map<TypeElement, ClassContext> contexts) {
+        companions.roundStarted();
+        Map<TypeElement, java.util.List<EnumDescsGenerator.DescMethod>> methods = new LinkedHashMap<>();
+        Set<TypeElement> handled = new HashSet<>();
+        for (boolean annotated : new boolean[]{true, false}) {
+            for (ClassContext context : contexts.values()) {
+                if (context.annotated != annotated || handled.contains(context.type)) {
+                    continue;
+                }
+                long start = System.nanoTime();
+                collectMethods(context, contexts, handled,
+                        methods.computeIfAbsent(topLevelType(context.type), key -> new ArrayList<>()));
+                diagnostics.classProcessed(this, context.type.getQualifiedName(), System.nanoTime() - start);
+            }
+        }
+        methods.forEach((topLevel, list) -> {
+            if (!list.isEmpty()) {
+                companions.generate(topLevel, list);
+            }
+        });
+    }
 
+    /**
+     * 按字段声明顺序收集伴生类方法，规则同{@link #handleClass}
+     */
+    private void collectMethods(ClassContext context, Map<TypeElement, ClassContext> contexts, Set<TypeElement> handled,
+                                java.util.List<EnumDescsGenerator.DescMethod> methods) {
+        handled.add(context.type);
+        DescOptions classOptions = getOptions(context.type);
+        checkClassPath(context.type, classOptions);
+        if (classOptions.codec) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "filer后端不支持@EnumDesc的codec，未生成encodeEnums、decodeEnums", context.type);
+        }
+        if (classOptions.columns) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "filer后端不支持@EnumDesc的columns，未生成列描述", context.type);
+        }
+        for (Element member : context.type.getEnclosedElements()) {
+            if (member instanceof TypeElement nested) {
+                if (context.annotated && !handled.contains(nested)) {
+                    ClassContext nestedContext = contexts.getOrDefault(nested, new ClassContext(nested));
+                    nestedContext.annotated = true;
+                    collectMethods(nestedContext, contexts, handled, methods);
+                }
+                continue;
+            }
+            if (member.getKind() != ElementKind.FIELD) {
+                continue;
+            }
+            VariableElement field = (VariableElement) member;
+            boolean isEnum = field.asType().getKind() == TypeKind.DECLARED
+                    && processingEnv.getTypeUtils().asElement(field.asType()).getKind() == ElementKind.ENUM;
 
-        // class处理
-        enumDescList.stream()
-                .filter(element -> Objects.equals(ElementKind.CLASS, element.getKind()))
-                .forEach(this::handleClass);
+            DescOptions options;
+            if (context.fields.contains(field)) {
+                options = getOptions(field);
+            } else if (context.annotated && isEnum) {
+                options = classOptions;
+            } else {
+                continue;
+            }
 
-        return true;
+            if (context.fields.contains(field) && !options.path.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("filer后端不支持@EnumDesc的path，未生成%s的方法", field.getSimpleName()), field);
+                continue;
+            }
+            if (!isEnum) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc只支持枚举类型的字段（filer后端不支持枚举数组及集合字段），%s的类型为%s",
+                                field.getSimpleName(), field.asType()), field);
+                continue;
+            }
+            TypeElement enumType = (TypeElement) processingEnv.getTypeUtils().asElement(field.asType());
+            if (!options.format.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        String.format("filer后端不支持@EnumDesc的format，未生成%s的组合描述", field.getSimpleName()), field);
+            }
+            for (String attr : options.attributes) {
+                ExecutableElement getter = companions.getter(enumType, "get" + attr);
+                if (getter == null) {
+                    missingGetter(attr, enumType, field);
+                    continue;
+                }
+                if (registry != null) {
+                    register(enumType, getter.getSimpleName().toString(), attr, context.type);
+                }
+                String name = getMethodName(field.getSimpleName().toString(), attr, context.type);
+                if (!options.bundle.isEmpty()) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            String.format("filer后端不支持@EnumDesc的bundle，未生成%s(Locale)", name), field);
+                }
+                methods.add(new EnumDescsGenerator.DescMethod(context.type, field, attr, name, getter, options));
+                diagnostics.methodGenerated(this);
+            }
+        }
     }
 
     /**
      * 核心方法 class的处理逻辑
+     * <p>
+     * 1.以方法名建立一次成员索引 <br>
+     * 2.按字段声明顺序生成方法：标注@EnumDesc的字段使用字段上的attributes，类上标注@EnumDesc时其余枚举字段使用类上的attributes <br>
+     * 3.生成的方法一次性追加到语法树 <br>
+     * 4.成员内部类同样按类级别处理（内部类未标注@EnumDesc时只生成desc）
      */
-    private void handleClass(Element element) {
-        JCTree tree = javacTrees.getTree(element);
-        tree.accept(new TreeTranslator() {
-            @Override
-            public void visitClassDef(JCTree.JCClassDecl jcClassDecl) {
-                Set<JCTree.JCMethodDecl> methodDeclSet = new HashSet<>();
+    private void handleClass(JCTree.JCClassDecl classDecl, ClassContext context,
+                             Map<TypeElement, ClassContext> contexts, Set<TypeElement> handled) {
+        handled.add(context.type);
+
+        // 成员索引：已存在的方法名（record组件对应同名的访问方法）、只有一个Locale参数的方法名，以及字段名
+        Set<Name> members = new HashSet<>();
+        Set<Name> localeMembers = new HashSet<>();
+        Set<Name> fieldNames = new HashSet<>();
+        for (JCTree def : classDecl.defs) {
+            if (def instanceof JCTree.JCVariableDecl variable) {
+                fieldNames.add(variable.name);
+                if ((variable.mods.flags & Flags.RECORD) != 0) {
+                    members.add(variable.name);
+                }
+            }
+            if (Objects.equals(Tree.Kind.METHOD, def.getKind())) {
+                JCTree.JCMethodDecl methodDecl = (JCTree.JCMethodDecl) def;
+                members.add(methodDecl.name);
+                Name parameterType = methodDecl.params.size() == 1 ? TreeInfo.name(methodDecl.params.head.vartype) : null;
+                if (parameterType != null && parameterType.contentEquals("Locale")) {
+                    localeMembers.add(methodDecl.name);
+                }
+            }
+        }
 
-                java.util.List<JCTree.JCAnnotation> annotations = jcClassDecl.mods.annotations
-                        .stream().filter(annotation -> annotation.type.toString().equals(EnumDesc.class.getName()))
-                        .toList();
+        DescOptions classOptions = getOptions(context.type);
+        checkClassPath(context.type, classOptions);
 
-                ArrayList<String> waitCreateMethodAttrs = new ArrayList<>();
-                if (annotations.size() == 0) {
-                    waitCreateMethodAttrs.add(DESC);
-                } else {
-                    annotations.forEach(annotation -> {
-                        List<Pair<Symbol.MethodSymbol, Attribute>> values = annotation.attribute.values;
-                        if (null == values || values.size() == 0) {
-                            waitCreateMethodAttrs.add(DESC);
-                        } else {
-                            for (Attribute value : ((Attribute.Array) values.get(0).snd).values) {
-                                waitCreateMethodAttrs.add(value.getValue().toString());
-                            }
-                        }
-                    });
+        ListBuffer<JCTree> generated = new ListBuffer<>();
+        Map<Name, GeneratedGetter> getters = new LinkedHashMap<>();
+        Map<String, Name> tables = new HashMap<>();
+        java.util.List<JCTree.JCVariableDecl> codecFields = new ArrayList<>();
+        for (JCTree def : classDecl.defs) {
+            if (def instanceof JCTree.JCClassDecl nested) {
+                if (context.annotated) {
+                    handleNestedClass(nested, contexts, handled);
                 }
+                continue;
+            }
+            if (!Objects.equals(Tree.Kind.VARIABLE, def.getKind())) {
+                continue;
+            }
+            JCTree.JCVariableDecl variableDecl = (JCTree.JCVariableDecl) def;
 
-                /*
-                 * 1.只处理所有的变量
-                 * 2.强转为变量
-                 * 3.class级只处理枚举字段
-                 * 4.只处理没有注解的变量 注解的变量已经处理过了
-                 */
-                jcClassDecl.defs.stream()
-                        .filter(it -> it.getKind().equals(Tree.Kind.VARIABLE))
-                        .map(it -> (JCTree.JCVariableDecl) it)
-                        .filter(it -> typeEquals(it))
-                        .filter(it -> {
-                            List<JCTree.JCAnnotation> list = it.getModifiers().getAnnotations();
-                            return !(list != null && list.stream().anyMatch(jc -> jcEquals(jc)));
-                        })
-                        .forEach(it ->
-                                waitCreateMethodAttrs.forEach(waitCreateMethodAttr -> {
-                                    JCTree.JCMethodDecl jcMethodDecl = fieldGetterMethod(upperCase(waitCreateMethodAttr), it);
-                                    methodDeclSet.add(jcMethodDecl);
-                                }));
-                for (JCTree.JCMethodDecl jcMethodDecl : methodDeclSet) {
-                    appendMethod(jcClassDecl, jcMethodDecl);
+            Type elementType = variableDecl.sym == null ? null : enumElementType(variableDecl.sym.type);
+            DescOptions options;
+            if (variableDecl.sym != null && context.fields.contains(variableDecl.sym)) {
+                // 标注@EnumDesc的字段
+                options = getOptions(variableDecl.sym);
+                if (!options.path.isEmpty()) {
+                    handlePath(variableDecl, options, context, members, getters, tables, generated);
+                    continue;
                 }
-                super.visitClassDef(jcClassDecl);
+            } else if (context.annotated && (typeEquals(variableDecl) || elementType != null)) {
+                // class级只处理枚举字段及枚举数组、集合字段
+                options = classOptions;
+            } else {
+                continue;
             }
-        });
+
+            if (elementType != null) {
+                handleContainer(variableDecl, elementType, options, context, members, getters, tables, generated);
+                continue;
+            }
+            if (variableDecl.sym.type.tsym.getKind() != ElementKind.ENUM) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc只支持枚举类型及枚举数组、集合的字段，%s的类型为%s", variableDecl.getName(), variableDecl.sym.type),
+                        variableDecl.sym);
+                continue;
+            }
+            if (classOptions.codec && (variableDecl.mods.flags & Flags.STATIC) == 0) {
+                codecFields.add(variableDecl);
+            }
+            // 同一枚举只解析一次
+            EnumMetadata metadata = enumMetadata((TypeElement) variableDecl.sym.type.tsym);
+
+            treeMaker.at(variableDecl.pos);
+            for (String attr : options.attributes) {
+                EnumMetadata.Getter getter = metadata.getGetter(names.fromString(String.format("get%s", attr)));
+                if (getter == null) {
+                    missingGetter(attr, metadata.getType(), variableDecl.sym);
+                    continue;
+                }
+                if (registry != null) {
+                    register(metadata.getType(), getter.name().toString(), attr, context.type);
+                }
+                // 校验方法是否存在 如果存在 则不处理
+                Name getMethodName = createGetMethodName(variableDecl.getName().toString(), attr, context.type);
+                if (members.add(getMethodName)) {
+                    String accessor = accessors == null ? null : accessors.method(metadata, getter, options.memoize);
+                    generated.append(accessor != null
+                            ? accessorGetterMethod(getMethodName, getter, variableDecl, options, accessor)
+                            : fieldGetterMethod(getMethodName, getter, variableDecl, options, tables, generated));
+                    getters.put(getMethodName, new GeneratedGetter(variableDecl.getName() + attr, variableDecl.getName(), getter.returnType()));
+                    diagnostics.methodGenerated(this);
+                } else {
+                    diagnostics.methodSkipped(this);
+                }
+                if (options.rank && isString(getter.returnType())) {
+                    Name rankMethodName = names.fromString(getMethodName + "Rank");
+                    if (members.add(rankMethodName)) {
+                        Name table = rankTable(metadata, getter, options.collator, variableDecl.sym, tables, generated);
+                        generated.append(rankGetterMethod(rankMethodName, variableDecl, table));
+                        diagnostics.methodGenerated(this);
+                    }
+                    Name order = names.fromString(constantCase(variableDecl.getName().toString()) + "_" + constantCase(attr) + "_ORDER");
+                    if (fieldNames.add(order)) {
+                        generated.append(orderField(order, classDecl, rankMethodName));
+                    }
+                }
+                if (!options.bundle.isEmpty() && isString(getter.returnType()) && localeMembers.add(getMethodName)) {
+                    JCTree.JCMethodDecl localeGetter = localeGetterMethod(getMethodName, metadata, attr, variableDecl, options, tables, generated);
+                    if (localeGetter != null) {
+                        generated.append(localeGetter);
+                        diagnostics.methodGenerated(this);
+                    }
+                }
+            }
+            if (!options.format.isEmpty()) {
+                handleFormat(variableDecl, metadata, options, context, members, getters, tables, generated);
+            }
+        }
+
+        if (!getters.isEmpty() && members.add(names.fromString(WRITE_ENUM_DESCS))) {
+            treeMaker.at(classDecl.pos);
+            generated.append(writeEnumDescsMethod(getters));
+            diagnostics.methodGenerated(this);
+        }
+
+        if (!codecFields.isEmpty()) {
+            treeMaker.at(classDecl.pos);
+            codecMethods(context.type, codecFields, members, tables, generated);
+        }
+
+        if (classOptions.columns) {
+            treeMaker.at(classDecl.pos);
+            columnMembers(classDecl, getters, members, fieldNames, generated);
+        }
+
+        if (generated.nonEmpty()) {
+            classDecl.defs = classDecl.defs.appendList(generated.toList());
+        }
     }
 
     /**
-     * 核心方法 字段的处理逻辑
+     * 列描述：按字段声明顺序包含全部实例字段，每个字段后紧跟为其生成的方法
+     * <pre>
+     * public static final String[] COLUMN_NAMES = {"id", "status", "statusDesc", "statusCode"};
+     * public static final Class&lt;?&gt;[] COLUMN_TYPES = {long.class, StatusEnum.class, String.class, int.class};
      *
-     * @param element 表示程序元素，如模块、包、类或方法。每个元素代表一个编译时语言级构造（而不是虚拟机的运行时构造）
-     */
-    private void handleField(Element element) {
-        // 获取程序元素的JCTree[抽象语法树节点的根类。它为特定树节点提供了定义，作为嵌套在里面的子类。]
-        JCTree tree = javacTrees.getTree(element);
-        // Visit this tree with a given visitor.
-        tree.accept(new TreeTranslator() {
-            @Override
-            public void visitVarDef(JCTree.JCVariableDecl tree) {
-                // 获取元素JCTree的JCModifiers修饰符
-                JCTree.JCModifiers modifiers = tree.getModifiers();
-                // 获取modifiers的注解集合
-                List<JCTree.JCAnnotation> annotations = modifiers.getAnnotations();
-                if (annotations == null) {
-                    return;
-                }
+     * public Object readColumn(int index) {
+     *     java.util.Objects.checkIndex(index, 4);
+     *     if (index &lt; 2) {
+     *         if (index &lt; 1) return this.id; else return this.status;
+     *     } else {
+     *         if (index &lt; 3) return getStatusDesc(); else return getStatusCode();
+     *     }
+     * }
+     * </pre>
+     * 按下标二分定位列，比较次数为log2(列数)；switch的语法树API在各javac版本中不兼容，因此不生成switch。
+     * 任一成员已存在时三者均不生成
+     */
+    private void columnMembers(JCTree.JCClassDecl classDecl, Map<Name, GeneratedGetter> getters, Set<Name> members,
+                               Set<Name> fieldNames, ListBuffer<JCTree> generated) {
+        Name columnNames = names.fromString(COLUMN_NAMES);
+        Name columnTypes = names.fromString(COLUMN_TYPES);
+        Name readColumn = names.fromString(READ_COLUMN);
+        if (fieldNames.contains(columnNames) || fieldNames.contains(columnTypes) || members.contains(readColumn)) {
+            diagnostics.methodSkipped(this);
+            return;
+        }
 
-                JCTree clazzTree = javacTrees.getTree(element.getEnclosingElement());
-
-                for (JCTree.JCAnnotation annotation : annotations) {
-                    // 找到注解
-                    if (jcEquals(annotation)) {
-                        Set<String> nameSet = getMethodNameSuffixSet(annotation);
-                        for (String name : nameSet) {
-                            JCTree.JCMethodDecl jcTree = fieldGetterMethod(name, tree);
-                            appendMethod((JCTree.JCClassDecl) clazzTree, jcTree);
-                        }
-                        break;
-                    }
+        ListBuffer<JCTree.JCExpression> nameLiterals = new ListBuffer<>();
+        ListBuffer<JCTree.JCExpression> typeLiterals = new ListBuffer<>();
+        java.util.List<JCTree.JCExpression> values = new ArrayList<>();
+        for (JCTree def : classDecl.defs) {
+            if (!(def instanceof JCTree.JCVariableDecl field) || field.sym == null || (field.mods.flags & Flags.STATIC) != 0) {
+                continue;
+            }
+            nameLiterals.append(treeMaker.Literal(field.getName().toString()));
+            typeLiterals.append(classLiteral(field.sym.type));
+            values.add(treeMaker.Select(ident("this"), field.getName()));
+            for (Map.Entry<Name, GeneratedGetter> getter : getters.entrySet()) {
+                if (getter.getValue().field() == field.getName()) {
+                    nameLiterals.append(treeMaker.Literal(getter.getValue().property()));
+                    typeLiterals.append(classLiteral(getter.getValue().type()));
+                    values.add(treeMaker.Apply(List.nil(), treeMaker.Ident(getter.getKey()), List.nil()));
                 }
-                super.visitVarDef(tree);
             }
-        });
+        }
+        if (values.isEmpty()) {
+            return;
+        }
+        fieldNames.add(columnNames);
+        fieldNames.add(columnTypes);
+        members.add(readColumn);
+
+        JCTree.JCExpression classType = treeMaker.TypeApply(select("java.lang.Class"),
+                List.of(treeMaker.Wildcard(treeMaker.TypeBoundKind(BoundKind.UNBOUND), null)));
+        generated.append(treeMaker.VarDef(treeMaker.Modifiers(Flags.PUBLIC | Flags.STATIC | Flags.FINAL), columnNames,
+                treeMaker.TypeArray(select("java.lang.String")), treeMaker.NewArray(null, List.nil(), nameLiterals.toList())));
+        generated.append(treeMaker.VarDef(treeMaker.Modifiers(Flags.PUBLIC | Flags.STATIC | Flags.FINAL), columnTypes,
+                treeMaker.TypeArray(classType), treeMaker.NewArray(null, List.nil(), typeLiterals.toList())));
+
+        JCTree.JCStatement check = treeMaker.Exec(treeMaker.Apply(List.nil(), select("java.util.Objects.checkIndex"),
+                List.of(ident("index"), treeMaker.Literal(values.size()))));
+        generated.append(treeMaker.MethodDef(treeMaker.Modifiers(Flags.PUBLIC), readColumn, select("java.lang.Object"),
+                List.nil(), List.of(parameter("index", treeMaker.TypeIdent(TypeTag.INT))), List.nil(),
+                treeMaker.Block(0, List.of(check, columnBranch(values, 0, values.size()))), null));
+        diagnostics.methodGenerated(this);
     }
 
     /**
-     * 添加方法进入语法树
+     * 下标在[from, to)中的列：二分为两个分支，只剩一列时直接返回
      */
-    private void appendMethod(JCTree.JCClassDecl clazzTree, JCTree.JCMethodDecl jcTree) {
-        // 校验方法是否存在 如果存在 则不处理
-        boolean isExist = clazzTree.defs
-                .stream()
-                .filter(def -> Objects.equals(Tree.Kind.METHOD, def.getKind()))
-                .map(def -> (JCTree.JCMethodDecl) def)
-                .anyMatch(def -> def.name.toString().equals(jcTree.name.toString()));
-        if (isExist) {
+    private JCTree.JCStatement columnBranch(java.util.List<JCTree.JCExpression> values, int from, int to) {
+        if (to - from == 1) {
+            return treeMaker.Return(values.get(from));
+        }
+        int middle = (from + to) >>> 1;
+        return treeMaker.If(treeMaker.Binary(JCTree.Tag.LT, ident("index"), treeMaker.Literal(middle)),
+                columnBranch(values, from, middle), columnBranch(values, middle, to));
+    }
+
+    /**
+     * 类型擦除后的类字面量 如：int.class、java.util.List.class
+     */
+    private JCTree.JCExpression classLiteral(Type type) {
+        return treeMaker.Select(typeTree((Type) processingEnv.getTypeUtils().erasure(type)), names.fromString("class"));
+    }
+
+    /**
+     * 枚举字段的二进制编解码方法
+     * <pre>
+     * private static final StatusEnum[] $STATUS_ENUM_VALUES = StatusEnum.values();
+     * private static final int $ENUMS_SCHEMA;
+     * static {
+     *     int h = 1;
+     *     for (StatusEnum e : $STATUS_ENUM_VALUES) h = 31 * h + e.name().hashCode();
+     *     h = 31 * h + $STATUS_ENUM_VALUES.length;
+     *     ...每个字段一次
+     *     $ENUMS_SCHEMA = h;
+     * }
+     *
+     * public java.nio.ByteBuffer encodeEnums(java.nio.ByteBuffer out) {
+     *     out.putInt($ENUMS_SCHEMA);
+     *     int nulls0 = 0;
+     *     if (this.status != null) nulls0 |= 1;
+     *     ...
+     *     out.put((byte) nulls0);
+     *     if (this.status != null) $writeVarint(out, this.status.ordinal());
+     *     ...
+     *     return out;
+     * }
+     *
+     * public void decodeEnums(java.nio.ByteBuffer in) {
+     *     int schema = in.getInt();
+     *     if (schema != $ENUMS_SCHEMA) throw new IllegalStateException("...");
+     *     int nulls0 = in.get();
+     *     this.status = (nulls0 &amp; 1) != 0 ? $STATUS_ENUM_VALUES[$readVarint(in)] : null;
+     *     ...
+     * }
+     * </pre>
+     * 结构哈希在运行时按枚举的实际常量计算，枚举单独重新编译（未重新编译本类）后调整常量顺序同样可以发现；
+     * 整个类只写入一个哈希，不按字段重复
+     */
+    private void codecMethods(TypeElement type, java.util.List<JCTree.JCVariableDecl> fields, Set<Name> members,
+                              Map<String, Name> tables, ListBuffer<JCTree> generated) {
+        for (JCTree.JCVariableDecl field : fields) {
+            if ((field.mods.flags & Flags.FINAL) != 0) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的codec不支持final字段%s", field.getName()), field.sym);
+                return;
+            }
+        }
+        Name encode = names.fromString(ENCODE_ENUMS);
+        Name decode = names.fromString(DECODE_ENUMS);
+        if (members.contains(encode) || members.contains(decode)) {
+            diagnostics.methodSkipped(this);
             return;
         }
-        clazzTree.defs = clazzTree.defs.append(jcTree);
+        members.add(encode);
+        members.add(decode);
+
+        // 每个枚举一个values()副本，解码时不再复制数组
+        Map<Name, Name> valuesTables = new LinkedHashMap<>();
+        for (JCTree.JCVariableDecl field : fields) {
+            Type enumType = field.sym.type;
+            Name table = uniqueName(String.format("$%s_VALUES", constantCase(enumType.tsym.getSimpleName().toString())),
+                    "values#" + enumType.tsym.getQualifiedName(), tables);
+            if (!valuesTables.containsKey(field.getName())) {
+                valuesTables.put(field.getName(), table);
+            }
+            if (generated.stream().noneMatch(def -> def instanceof JCTree.JCVariableDecl decl && decl.name == table)) {
+                generated.append(treeMaker.VarDef(treeMaker.Modifiers(Flags.PRIVATE | Flags.STATIC | Flags.FINAL), table,
+                        treeMaker.TypeArray(treeMaker.Type(enumType)),
+                        treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Type(enumType), names.fromString("values")), List.nil())));
+            }
+        }
+
+        Name schema = uniqueName("$ENUMS_SCHEMA", "schema", tables);
+        ListBuffer<JCTree.JCStatement> init = new ListBuffer<>();
+        init.append(localVar("h", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(1)));
+        for (JCTree.JCVariableDecl field : fields) {
+            Name table = valuesTables.get(field.getName());
+            JCTree.JCExpression nameHash = treeMaker.Apply(List.nil(), treeMaker.Select(
+                    treeMaker.Apply(List.nil(), select("e.name"), List.nil()), names.fromString("hashCode")), List.nil());
+            init.append(treeMaker.ForeachLoop(localVar("e", treeMaker.Type(field.sym.type), null), treeMaker.Ident(table),
+                    assign(ident("h"), treeMaker.Binary(JCTree.Tag.PLUS,
+                            treeMaker.Binary(JCTree.Tag.MUL, treeMaker.Literal(31), ident("h")), nameHash))));
+            init.append(assign(ident("h"), treeMaker.Binary(JCTree.Tag.PLUS,
+                    treeMaker.Binary(JCTree.Tag.MUL, treeMaker.Literal(31), ident("h")),
+                    treeMaker.Select(treeMaker.Ident(table), names.fromString("length")))));
+        }
+        init.append(assign(treeMaker.Ident(schema), ident("h")));
+        generated.append(staticField(schema, treeMaker.TypeIdent(TypeTag.INT)));
+        generated.append(treeMaker.Block(Flags.STATIC, init.toList()));
+
+        // 编码
+        ListBuffer<JCTree.JCStatement> encoding = new ListBuffer<>();
+        encoding.append(treeMaker.Exec(treeMaker.Apply(List.nil(), select("out.putInt"), List.of(treeMaker.Ident(schema)))));
+        for (int group = 0; group * 8 < fields.size(); group++) {
+            String nulls = "nulls" + group;
+            encoding.append(localVar(nulls, treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0)));
+            for (int i = group * 8; i < Math.min(fields.size(), group * 8 + 8); i++) {
+                encoding.append(treeMaker.If(notNull(fields.get(i).getName()),
+                        treeMaker.Exec(treeMaker.Assignop(JCTree.Tag.BITOR_ASG, ident(nulls), treeMaker.Literal(1 << (i % 8)))), null));
+            }
+            encoding.append(treeMaker.Exec(treeMaker.Apply(List.nil(), select("out.put"),
+                    List.of(treeMaker.TypeCast(treeMaker.TypeIdent(TypeTag.BYTE), ident(nulls))))));
+        }
+        for (JCTree.JCVariableDecl field : fields) {
+            JCTree.JCExpression ordinal = treeMaker.Apply(List.nil(),
+                    treeMaker.Select(treeMaker.Select(ident("this"), field.getName()), names.fromString("ordinal")), List.nil());
+            encoding.append(treeMaker.If(notNull(field.getName()),
+                    treeMaker.Exec(treeMaker.Apply(List.nil(), ident(WRITE_VARINT), List.of(ident("out"), ordinal))), null));
+        }
+        encoding.append(treeMaker.Return(ident("out")));
+        generated.append(treeMaker.MethodDef(treeMaker.Modifiers(Flags.PUBLIC), encode, select("java.nio.ByteBuffer"),
+                List.nil(), List.of(parameter("out", select("java.nio.ByteBuffer"))), List.nil(),
+                treeMaker.Block(0, encoding.toList()), null));
+
+        // 解码
+        ListBuffer<JCTree.JCStatement> decoding = new ListBuffer<>();
+        decoding.append(localVar("schema", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Apply(List.nil(), select("in.getInt"), List.nil())));
+        JCTree.JCExpression message = treeMaker.Binary(JCTree.Tag.PLUS, treeMaker.Binary(JCTree.Tag.PLUS, treeMaker.Binary(JCTree.Tag.PLUS,
+                        treeMaker.Literal(String.format("Enum schema mismatch for %s: expected ", type.getQualifiedName())),
+                        treeMaker.Ident(schema)), treeMaker.Literal(" but was ")), ident("schema"));
+        decoding.append(treeMaker.If(treeMaker.Binary(JCTree.Tag.NE, ident("schema"), treeMaker.Ident(schema)),
+                treeMaker.Throw(treeMaker.NewClass(null, List.nil(), select("java.lang.IllegalStateException"), List.of(message), null)),
+                null));
+        for (int group = 0; group * 8 < fields.size(); group++) {
+            decoding.append(localVar("nulls" + group, treeMaker.TypeIdent(TypeTag.INT), treeMaker.Apply(List.nil(), select("in.get"), List.nil())));
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            JCTree.JCVariableDecl field = fields.get(i);
+            JCTree.JCExpression present = treeMaker.Binary(JCTree.Tag.NE, treeMaker.Parens(treeMaker.Binary(JCTree.Tag.BITAND,
+                    ident("nulls" + (i / 8)), treeMaker.Literal(1 << (i % 8)))), treeMaker.Literal(0));
+            JCTree.JCExpression value = treeMaker.Indexed(treeMaker.Ident(valuesTables.get(field.getName())),
+                    treeMaker.Apply(List.nil(), ident(READ_VARINT), List.of(ident("in"))));
+            decoding.append(assign(treeMaker.Select(ident("this"), field.getName()), treeMaker.Conditional(present, value, nullLiteral())));
+        }
+        generated.append(treeMaker.MethodDef(treeMaker.Modifiers(Flags.PUBLIC), decode, treeMaker.TypeIdent(TypeTag.VOID),
+                List.nil(), List.of(parameter("in", select("java.nio.ByteBuffer"))), List.nil(),
+                treeMaker.Block(0, decoding.toList()), null));
+
+        if (members.add(names.fromString(WRITE_VARINT))) {
+            generated.append(writeVarintMethod());
+        }
+        if (members.add(names.fromString(READ_VARINT))) {
+            generated.append(readVarintMethod());
+        }
+        diagnostics.methodGenerated(this);
+        diagnostics.methodGenerated(this);
+    }
+
+    /**
+     * private static void $writeVarint(java.nio.ByteBuffer out, int value) {
+     *     while ((value &amp; ~0x7F) != 0) { out.put((byte) (value &amp; 0x7F | 0x80)); value >>>= 7; }
+     *     out.put((byte) value);
+     * }
+     */
+    private JCTree.JCMethodDecl writeVarintMethod() {
+        JCTree.JCExpression more = treeMaker.Binary(JCTree.Tag.NE,
+                treeMaker.Parens(treeMaker.Binary(JCTree.Tag.BITAND, ident("value"), treeMaker.Literal(~0x7F))), treeMaker.Literal(0));
+        JCTree.JCExpression low = treeMaker.TypeCast(treeMaker.TypeIdent(TypeTag.BYTE), treeMaker.Parens(treeMaker.Binary(JCTree.Tag.BITOR,
+                treeMaker.Binary(JCTree.Tag.BITAND, ident("value"), treeMaker.Literal(0x7F)), treeMaker.Literal(0x80))));
+        List<JCTree.JCStatement> statements = List.of(
+                treeMaker.WhileLoop(more, treeMaker.Block(0, List.of(
+                        treeMaker.Exec(treeMaker.Apply(List.nil(), select("out.put"), List.of(low))),
+                        treeMaker.Exec(treeMaker.Assignop(JCTree.Tag.USR_ASG, ident("value"), treeMaker.Literal(7)))))),
+                treeMaker.Exec(treeMaker.Apply(List.nil(), select("out.put"),
+                        List.of(treeMaker.TypeCast(treeMaker.TypeIdent(TypeTag.BYTE), ident("value"))))));
+        return treeMaker.MethodDef(treeMaker.Modifiers(Flags.PRIVATE | Flags.STATIC), names.fromString(WRITE_VARINT),
+                treeMaker.TypeIdent(TypeTag.VOID), List.nil(),
+                List.of(parameter("out", select("java.nio.ByteBuffer")), parameter("value", treeMaker.TypeIdent(TypeTag.INT))),
+                List.nil(), treeMaker.Block(0, statements), null);
+    }
+
+    /**
+     * private static int $readVarint(java.nio.ByteBuffer in) {
+     *     int value = 0;
+     *     for (int shift = 0; shift &lt; 32; shift += 7) {
+     *         int b = in.get();
+     *         value |= (b &amp; 0x7F) &lt;&lt; shift;
+     *         if (b >= 0) return value;
+     *     }
+     *     throw new IllegalStateException("Malformed varint");
+     * }
+     */
+    private JCTree.JCMethodDecl readVarintMethod() {
+        List<JCTree.JCStatement> statements = List.of(
+                localVar("value", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0)),
+                treeMaker.ForLoop(
+                        List.of(localVar("shift", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0))),
+                        treeMaker.Binary(JCTree.Tag.LT, ident("shift"), treeMaker.Literal(32)),
+                        List.of(treeMaker.Exec(treeMaker.Assignop(JCTree.Tag.PLUS_ASG, ident("shift"), treeMaker.Literal(7)))),
+                        treeMaker.Block(0, List.of(
+                                localVar("b", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Apply(List.nil(), select("in.get"), List.nil())),
+                                treeMaker.Exec(treeMaker.Assignop(JCTree.Tag.BITOR_ASG, ident("value"), treeMaker.Binary(JCTree.Tag.SL,
+                                        treeMaker.Parens(treeMaker.Binary(JCTree.Tag.BITAND, ident("b"), treeMaker.Literal(0x7F))),
+                                        ident("shift")))),
+                                treeMaker.If(treeMaker.Binary(JCTree.Tag.GE, ident("b"), treeMaker.Literal(0)),
+                                        treeMaker.Return(ident("value")), null)))),
+                treeMaker.Throw(treeMaker.NewClass(null, List.nil(), select("java.lang.IllegalStateException"),
+                        List.of(treeMaker.Literal("Malformed varint")), null)));
+        return treeMaker.MethodDef(treeMaker.Modifiers(Flags.PRIVATE | Flags.STATIC), names.fromString(READ_VARINT),
+                treeMaker.TypeIdent(TypeTag.INT), List.nil(), List.of(parameter("in", select("java.nio.ByteBuffer"))),
+                List.nil(), treeMaker.Block(0, statements), null);
     }
 
     /**
-     * 获取方法后缀名
+     * this.field != null
      */
-    private Set<String> getMethodNameSuffixSet(JCTree.JCAnnotation annotation) {
-        List<JCTree.JCExpression> args = annotation.getArguments();
+    private JCTree.JCExpression notNull(Name field) {
+        return treeMaker.Binary(JCTree.Tag.NE, treeMaker.Select(ident("this"), field), nullLiteral());
+    }
 
-        Set<String> nameSet = new HashSet<>();
+    private JCTree.JCVariableDecl parameter(String name, JCTree.JCExpression type) {
+        return treeMaker.VarDef(treeMaker.Modifiers(Flags.PARAMETER), names.fromString(name), type, null);
+    }
 
-        // 默认值
-        if (args == null || args.size() == 0) {
-            nameSet.add(super.upperCase(DESC));
-            return nameSet;
+    /**
+     * 本类中唯一的静态成员名，同一key返回同一名称
+     */
+    private Name uniqueName(String prefix, String key, Map<String, Name> tables) {
+        Name name = tables.get(key);
+        if (name != null) {
+            return name;
+        }
+        name = names.fromString(prefix);
+        for (int i = 1; tables.containsValue(name); i++) {
+            name = names.fromString(prefix + i);
         }
+        tables.put(key, name);
+        return name;
+    }
 
-        // EnumDesc注解只有一个字段
-        JCTree.JCAssign assign = (JCTree.JCAssign) args.get(0);
-        if (assign.getExpression() instanceof JCTree.JCLiteral) {
-            JCTree.JCLiteral literal = (JCTree.JCLiteral) assign.getExpression();
-            nameSet.add(super.upperCase(literal.getValue().toString()));
-            return nameSet;
+    /**
+     * 枚举数组及集合字段：每个属性生成一个方法，null判断及预计算与单个枚举字段一致
+     */
+    private void handleContainer(JCTree.JCVariableDecl variableDecl, Type elementType, DescOptions options, ClassContext context,
+                                 Set<Name> members, Map<Name, GeneratedGetter> getters, Map<String, Name> tables, ListBuffer<JCTree> generated) {
+        if (!options.format.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "@EnumDesc的数组、集合字段不支持format，未生成组合描述", variableDecl.sym);
+        }
+        EnumMetadata metadata = enumMetadata((TypeElement) elementType.tsym);
+        treeMaker.at(variableDecl.pos);
+        for (String attr : options.attributes) {
+            EnumMetadata.Getter getter = metadata.getGetter(names.fromString(String.format("get%s", attr)));
+            if (getter == null) {
+                missingGetter(attr, metadata.getType(), variableDecl.sym);
+                continue;
+            }
+            if (registry != null) {
+                register(metadata.getType(), getter.name().toString(), attr, context.type);
+            }
+            Name getMethodName = createGetMethodName(variableDecl.getName().toString(), attr, context.type);
+            if (members.add(getMethodName)) {
+                generated.append(containerGetterMethod(getMethodName, getter, variableDecl, elementType, options, tables, generated));
+                getters.put(getMethodName, new GeneratedGetter(variableDecl.getName() + attr, variableDecl.getName(),
+                        (Type) processingEnv.getTypeUtils().erasure(processingEnv.getElementUtils()
+                                .getTypeElement(options.separator.isEmpty() ? "java.util.List" : "java.lang.String").asType())));
+                diagnostics.methodGenerated(this);
+            } else {
+                diagnostics.methodSkipped(this);
+            }
         }
+    }
 
-        // EnumDesc注解存在多个字段
-        if (assign.getExpression() instanceof JCTree.JCNewArray array) {
-            for (JCTree.JCExpression elem : array.elems) {
-                JCTree.JCLiteral literal = (JCTree.JCLiteral) elem;
-                nameSet.add(super.upperCase(literal.getValue().toString()));
+    /**
+     * 组合描述：按模板预先拼接每个常量，生成读取预计算表的方法
+     * <pre>
+     * // &#64;EnumDesc(format = "{code}-{desc}")
+     * private static final String[] $STATUS_ENUM_LABEL;
+     * static {
+     *     StatusEnum[] values = StatusEnum.values();
+     *     String[] table = new String[values.length];
+     *     for (int i = 0; i < values.length; i++) table[i] = "" + values[i].getCode() + "-" + values[i].getDesc();
+     *     $STATUS_ENUM_LABEL = table;
+     * }
+     *
+     * public String getStatusLabel() {
+     *     if (this.status == null) return "";
+     *     return $STATUS_ENUM_LABEL[this.status.ordinal()];
+     * }
+     * </pre>
+     * 同一类中相同枚举的相同模板共用一张表
+     */
+    private void handleFormat(JCTree.JCVariableDecl variableDecl, EnumMetadata metadata, DescOptions options, ClassContext context,
+                              Set<Name> members, Map<Name, GeneratedGetter> getters, Map<String, Name> tables,
+                              ListBuffer<JCTree> generated) {
+        String formatName = options.formatName;
+        if (!SourceVersion.isIdentifier(formatName) || SourceVersion.isKeyword(formatName)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("@EnumDesc的formatName \"%s\" 不是合法的名称", formatName), variableDecl.sym);
+            return;
+        }
+        String suffix = super.upperCase(formatName);
+        if (options.attributes.contains(suffix)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("@EnumDesc的formatName \"%s\" 与attributes中的属性重名", formatName), variableDecl.sym);
+            return;
+        }
+        java.util.List<Object> segments = parseFormat(options.format, metadata, variableDecl.sym);
+        if (segments == null) {
+            return;
+        }
+        Name getMethodName = createGetMethodName(variableDecl.getName().toString(), suffix, context.type);
+        if (!members.add(getMethodName)) {
+            diagnostics.methodSkipped(this);
+            return;
+        }
+
+        treeMaker.at(variableDecl.pos);
+        Type enumType = variableDecl.sym.type;
+        String key = enumType.tsym.getQualifiedName() + "#format#" + options.format;
+        Name table = tables.get(key);
+        if (table == null) {
+            table = uniqueName(String.format("$%s_%s", constantCase(enumType.tsym.getSimpleName().toString()), constantCase(suffix)), key, tables);
+            // 以""开头，保证相邻的数值属性按字符串拼接
+            JCTree.JCExpression label = treeMaker.Literal("");
+            for (Object segment : segments) {
+                JCTree.JCExpression part = segment instanceof String literal ? treeMaker.Literal(literal)
+                        : treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Indexed(ident("values"), ident("i")), (Name) segment), List.nil());
+                label = treeMaker.Binary(JCTree.Tag.PLUS, label, part);
+            }
+            ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+            statements.append(localVar("values", treeMaker.TypeArray(treeMaker.Type(enumType)),
+                    treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Type(enumType), names.fromString("values")), List.nil())));
+            statements.append(localVar("table", treeMaker.TypeArray(select("java.lang.String")),
+                    treeMaker.NewArray(select("java.lang.String"), List.of(select("values.length")), null)));
+            statements.append(treeMaker.ForLoop(
+                    List.of(localVar("i", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0))),
+                    treeMaker.Binary(JCTree.Tag.LT, ident("i"), select("values.length")),
+                    List.of(treeMaker.Exec(treeMaker.Unary(JCTree.Tag.POSTINC, ident("i")))),
+                    assign(treeMaker.Indexed(ident("table"), ident("i")), label)));
+            statements.append(assign(treeMaker.Ident(table), ident("table")));
+            generated.append(staticField(table, treeMaker.TypeArray(select("java.lang.String"))));
+            generated.append(treeMaker.Block(Flags.STATIC, statements.toList()));
+        }
+
+        JCTree.JCExpression value = treeMaker.Indexed(treeMaker.Ident(table), treeMaker.Apply(List.nil(),
+                treeMaker.Select(treeMaker.Select(ident("this"), variableDecl.getName()), names.fromString("ordinal")), List.nil()));
+        JCTree.JCBlock body = treeMaker.Block(0, List.of(
+                treeMaker.If(isNull(treeMaker.Select(ident("this"), variableDecl.getName())), treeMaker.Return(treeMaker.Literal(options.nullDefault)), null),
+                treeMaker.Return(value)));
+        generated.append(treeMaker.MethodDef(treeMaker.Modifiers(Flags.PUBLIC), getMethodName, select("java.lang.String"),
+                List.nil(), List.nil(), List.nil(), body, null));
+        getters.put(getMethodName, new GeneratedGetter(variableDecl.getName() + suffix, variableDecl.getName(),
+                (Type) processingEnv.getElementUtils().getTypeElement("java.lang.String").asType()));
+        diagnostics.methodGenerated(this);
+    }
+
+    /**
+     * 解析组合描述模板：文本为String，{xxx}为枚举中getXxx方法名；模板不合法时报错并返回null
+     */
+    private java.util.List<Object> parseFormat(String format, EnumMetadata metadata, Element annotated) {
+        java.util.List<Object> segments = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if ((c == '{' || c == '}') && i + 1 < format.length() && format.charAt(i + 1) == c) {
+                text.append(c);
+                i++;
+                continue;
+            }
+            if (c == '}') {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的format \"%s\" 无效：第%d个字符'}'没有对应的'{'", format, i + 1), annotated);
+                return null;
+            }
+            if (c != '{') {
+                text.append(c);
+                continue;
+            }
+            int end = format.indexOf('}', i);
+            if (end < 0) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的format \"%s\" 无效：第%d个字符'{'没有对应的'}'", format, i + 1), annotated);
+                return null;
+            }
+            String attribute = format.substring(i + 1, end).trim();
+            if (attribute.isEmpty()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的format \"%s\" 无效：第%d个字符'{'后缺少属性名", format, i + 1), annotated);
+                return null;
+            }
+            EnumMetadata.Getter getter = metadata.getGetter(names.fromString("get" + super.upperCase(attribute)));
+            if (getter == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的format \"%s\" 无效：枚举%s中不存在public方法get%s()",
+                                format, metadata.getType().getQualifiedName(), super.upperCase(attribute)), annotated);
+                return null;
+            }
+            if (text.length() > 0) {
+                segments.add(text.toString());
+                text.setLength(0);
+            }
+            segments.add(getter.name());
+            i = end;
+        }
+        if (text.length() > 0) {
+            segments.add(text.toString());
+        }
+        return segments;
+    }
+
+    /**
+     * 类上的@EnumDesc不支持path
+     */
+    private void checkClassPath(TypeElement type, DescOptions classOptions) {
+        if (!classOptions.path.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@EnumDesc的path只能标注在字段上", type);
+        }
+    }
+
+    /**
+     * 路径字段：按path找到枚举后，每个属性生成一个方法，方法名由字段名及路径拼接，见{@link #pathGetterMethod}
+     */
+    private void handlePath(JCTree.JCVariableDecl variableDecl, DescOptions options, ClassContext context,
+                            Set<Name> members, Map<Name, GeneratedGetter> getters, Map<String, Name> tables, ListBuffer<JCTree> generated) {
+        java.util.List<PathStep> steps = resolvePath(context.type, variableDecl.sym, options.path);
+        if (steps == null) {
+            return;
+        }
+        if (options.rank || !options.bundle.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "@EnumDesc的path不支持rank及bundle，未生成排序键及多语言方法", variableDecl.sym);
+        }
+        if (!options.format.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "@EnumDesc的path不支持format，未生成组合描述", variableDecl.sym);
+        }
+        // 方法名前缀 如：order + customer.level -> orderCustomerLevel
+        StringBuilder prefix = new StringBuilder(variableDecl.getName());
+        for (String segment : options.path.split("\\.")) {
+            prefix.append(super.upperCase(segment.trim()));
+        }
+        EnumMetadata metadata = enumMetadata((TypeElement) steps.get(steps.size() - 1).type().tsym);
+        treeMaker.at(variableDecl.pos);
+        for (String attr : options.attributes) {
+            EnumMetadata.Getter getter = metadata.getGetter(names.fromString(String.format("get%s", attr)));
+            if (getter == null) {
+                missingGetter(attr, metadata.getType(), variableDecl.sym);
+                continue;
+            }
+            if (registry != null) {
+                register(metadata.getType(), getter.name().toString(), attr, context.type);
+            }
+            Name getMethodName = createGetMethodName(prefix.toString(), attr, context.type);
+            if (members.add(getMethodName)) {
+                generated.append(pathGetterMethod(getMethodName, getter, variableDecl, steps, options, tables, generated));
+                getters.put(getMethodName, new GeneratedGetter(prefix + attr, variableDecl.getName(), getter.returnType()));
+                diagnostics.methodGenerated(this);
+            } else {
+                diagnostics.methodSkipped(this);
+            }
+        }
+    }
+
+    /**
+     * 在符号表中逐级解析path，每一级依次查找get方法、record访问方法及字段（均为非static且可访问），
+     * 最后一级须为枚举；解析失败时报错并返回null
+     */
+    private java.util.List<PathStep> resolvePath(TypeElement owner, Symbol.VarSymbol field, String path) {
+        java.util.List<PathStep> steps = new ArrayList<>();
+        Type current = field.type;
+        if (current.tsym != null && current.tsym.getKind() == ElementKind.ENUM) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("@EnumDesc的path只适用于非枚举类型的字段，%s的类型为%s", field.getSimpleName(), current), field);
+            return null;
+        }
+        StringBuilder resolved = new StringBuilder(field.getSimpleName());
+        for (String segment : path.split("\\.", -1)) {
+            segment = segment.trim();
+            if (!SourceVersion.isIdentifier(segment) || SourceVersion.isKeyword(segment)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的path \"%s\" 无效：\"%s\" 不是合法的名称", path, segment), field);
+                return null;
+            }
+            if (current.getKind() != TypeKind.DECLARED) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的path \"%s\" 无效：%s的类型%s不是类或接口", path, resolved, current), field);
+                return null;
+            }
+            PathStep step = pathStep(owner, (DeclaredType) current, segment);
+            if (step == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的path \"%s\" 无效：%s中不存在可访问的get%s()、%s()或字段%s",
+                                path, current.tsym.getQualifiedName(), super.upperCase(segment), segment, segment), field);
+                return null;
+            }
+            steps.add(step);
+            current = step.type();
+            resolved.append('.').append(segment);
+        }
+        if (current.tsym == null || current.tsym.getKind() != ElementKind.ENUM) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("@EnumDesc的path \"%s\" 无效：%s的类型%s不是枚举", path, resolved, current), field);
+            return null;
+        }
+        return steps;
+    }
+
+    /**
+     * 在类型（含继承的成员）中查找一级路径，泛型按该类型的实际类型参数替换
+     */
+    private PathStep pathStep(TypeElement owner, DeclaredType type, String segment) {
+        TypeElement element = (TypeElement) type.asElement();
+        String getterName = "get" + super.upperCase(segment);
+        Element accessor = null;
+        Element field = null;
+        for (Element member : processingEnv.getElementUtils().getAllMembers(element)) {
+            if (member.getModifiers().contains(Modifier.STATIC) || !isAccessible(owner, member)) {
+                continue;
+            }
+            if (member.getKind() == ElementKind.METHOD && ((ExecutableElement) member).getParameters().isEmpty()) {
+                if (member.getSimpleName().contentEquals(getterName)) {
+                    return pathStep(type, member);
+                }
+                if (member.getSimpleName().contentEquals(segment) && element.getKind() == ElementKind.RECORD) {
+                    accessor = member;
+                }
+            } else if (member.getKind() == ElementKind.FIELD && member.getSimpleName().contentEquals(segment)) {
+                field = member;
             }
         }
+        return accessor != null ? pathStep(type, accessor) : field != null ? pathStep(type, field) : null;
+    }
+
+    private PathStep pathStep(DeclaredType type, Element member) {
+        TypeMirror memberType = processingEnv.getTypeUtils().asMemberOf(type, member);
+        if (memberType instanceof ExecutableType method) {
+            memberType = method.getReturnType();
+        }
+        // 局部变量不能声明为通配符或其他方法的类型变量
+        if (memberType instanceof WildcardType wildcard) {
+            memberType = wildcard.getExtendsBound() != null ? wildcard.getExtendsBound()
+                    : processingEnv.getElementUtils().getTypeElement("java.lang.Object").asType();
+        }
+        if (memberType.getKind() == TypeKind.TYPEVAR) {
+            memberType = processingEnv.getTypeUtils().erasure(memberType);
+        }
+        return new PathStep(((Symbol) member).name, member.getKind() == ElementKind.METHOD, (Type) memberType);
+    }
+
+    /**
+     * 成员在owner中是否可访问：public；同一顶层类中的private；同一包中的其他成员
+     */
+    private boolean isAccessible(TypeElement owner, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return topLevelType(owner).equals(topLevelType(member));
+        }
+        Elements elements = processingEnv.getElementUtils();
+        return elements.getPackageOf(owner).equals(elements.getPackageOf(member));
+    }
+
+    /**
+     * 记录到枚举字典注册表
+     */
+    private void register(TypeElement enumType, String getter, String suffix, TypeElement type) {
+        String attribute = Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+        registry.add(enumType, attribute, getter, topLevelType(type));
+    }
+
+    /**
+     * 成员内部类 按类级别处理
+     */
+    private void handleNestedClass(JCTree.JCClassDecl nested, Map<TypeElement, ClassContext> contexts, Set<TypeElement> handled) {
+        TypeElement type = nested.sym;
+        if (type == null || handled.contains(type)) {
+            return;
+        }
+        ClassContext context = contexts.get(type);
+        if (context == null) {
+            context = new ClassContext(type);
+        }
+        context.annotated = true;
+        handleClass(nested, context, contexts, handled);
+    }
+
+    /**
+     * 获取元素上@EnumDesc的配置
+     * <p>
+     * 元素上未标注@EnumDesc时使用默认值：attributes为desc，nullDefault为""，不预计算
+     */
+    private DescOptions getOptions(Element element) {
+        Set<String> nameSet = new LinkedHashSet<>();
 
-        return nameSet;
+        EnumDesc enumDesc = element.getAnnotation(EnumDesc.class);
+        String[] attributes = enumDesc == null ? new String[]{DESC} : enumDesc.attributes();
+        for (String attribute : attributes) {
+            nameSet.add(super.upperCase(attribute));
+        }
+        return enumDesc == null ? new DescOptions(nameSet, "", false, "", false, "", false, "", java.util.List.of(), "", false, "", "")
+                : new DescOptions(nameSet, enumDesc.nullDefault(), enumDesc.memoize(), enumDesc.separator(),
+                enumDesc.rank(), enumDesc.collator().trim(), enumDesc.codec(),
+                enumDesc.bundle().trim(), java.util.List.of(enumDesc.locales()), enumDesc.path().trim(),
+                enumDesc.columns(), enumDesc.format(), enumDesc.formatName().trim());
     }
 
     /**
      * 字段生成方法
+     * <p>
+     * 返回值类型取自枚举中对应get方法的返回值类型，基本类型直接返回，不装箱也不转换为字符串：
+     * <pre>
+     * public int getStatusCode() {
+     *     if (this.status == null) return 0;
+     *     return status.getCode();
+     * }
+     * </pre>
+     * 开启memoize时返回语句为 {@code return $STATUS_ENUM_CODE[status.ordinal()];}，预计算表见{@link #memoTable}；
+     * get方法只返回final字段时已是一次字段读取，不再生成预计算表
      */
-    private JCTree.JCMethodDecl fieldGetterMethod(String suffix, JCTree.JCVariableDecl tree) {
+    private JCTree.JCMethodDecl fieldGetterMethod(Name getMethodName, EnumMetadata.Getter getter, JCTree.JCVariableDecl tree,
+                                                  DescOptions options, Map<String, Name> tables, ListBuffer<JCTree> generated) {
+        Type type = getter.returnType();
 
-        // 生成return语句
-        JCTree.JCReturn returnStatement = treeMaker.Return(
-                treeMaker.Conditional(
-                        treeMaker.Binary(JCTree.Tag.NE, treeMaker.Select(treeMaker.Ident(names.fromString("this")), tree.getName()), treeMaker.Literal(TypeTag.BOT, 0)),
-                        treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Ident(tree.getName()), names.fromString(String.format("get%s", suffix))), List.nil()),
-                        treeMaker.Literal("")
-                )
+        JCTree.JCExpression value;
+        if (options.memoize && !getter.constant() && isMemoizable(type)) {
+            Name table = memoTable(tree.sym.type, getter.name(), type, tables, generated);
+            value = treeMaker.Indexed(treeMaker.Ident(table),
+                    treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Ident(tree.getName()), names.fromString("ordinal")), List.nil()));
+        } else {
+            value = treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Ident(tree.getName()), getter.name()), List.nil());
+        }
+
+        // 生成null判断及return语句
+        JCTree.JCIf nullStatement = treeMaker.If(
+                treeMaker.Binary(JCTree.Tag.EQ, treeMaker.Select(treeMaker.Ident(names.fromString("this")), tree.getName()), treeMaker.Literal(TypeTag.BOT, null)),
+                treeMaker.Return(nullDefaultValue(type, options.nullDefault, tree.sym)),
+                null
         );
+        JCTree.JCReturn returnStatement = treeMaker.Return(value);
 
-        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<JCTree.JCStatement>().append(returnStatement);
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<JCTree.JCStatement>().append(nullStatement).append(returnStatement);
 
         // public 方法访问级别修饰
         JCTree.JCModifiers modifiers = treeMaker.Modifiers(Flags.PUBLIC);
-        // 方法名 getXXX ，根据字段名生成首字母大写的get方法
-        Name getMethodName = createGetMethodName(tree.getName(), suffix);
-        // 返回值类型，get类型的返回值类型与字段类型一致
-        JCTree.JCIdent string = treeMaker.Ident(names.fromString("String"));
+        // 返回值类型，与枚举get方法的返回值类型一致
+        JCTree.JCExpression returnType = typeTree(type);
         // 生成方法体
         JCTree.JCBlock body = treeMaker.Block(0, statements.toList());
         // 泛型参数列表
@@ -243,10 +1153,10 @@ public class EnumDescProcessor extends AgentProcessor {
         return treeMaker.MethodDef(
                 // 方法访问级别修饰符
                 modifiers,
-                // get 方法名
+                // get 方法名 getXXX ，根据字段名生成首字母大写的get方法
                 getMethodName,
                 // 返回值类型
-                string,
+                returnType,
                 // 泛型参数列表
                 methodGenericParamList,
                 // 参数值列表
@@ -260,12 +1170,649 @@ public class EnumDescProcessor extends AgentProcessor {
         );
     }
 
+    /**
+     * 路径字段生成方法：每一级读取一次并存入局部变量，逐级判断null
+     * <pre>
+     * // &#64;EnumDesc(path = "customer.level") private Order order;
+     * public String getOrderCustomerLevelDesc() {
+     *     Order $0 = this.order;
+     *     if ($0 != null) {
+     *         Customer $1 = $0.getCustomer();
+     *         if ($1 != null) {
+     *             LevelEnum $2 = $1.getLevel();
+     *             if ($2 != null) return $2.getDesc();
+     *         }
+     *     }
+     *     return "";
+     * }
+     * </pre>
+     * 开启memoize时最后一级读取预计算表，见{@link #memoTable}
+     */
+    private JCTree.JCMethodDecl pathGetterMethod(Name getMethodName, EnumMetadata.Getter getter, JCTree.JCVariableDecl tree,
+                                                 java.util.List<PathStep> steps, DescOptions options, Map<String, Name> tables,
+                                                 ListBuffer<JCTree> generated) {
+        Type type = getter.returnType();
+        Name last = names.fromString("$" + steps.size());
+        JCTree.JCExpression value;
+        if (options.memoize && !getter.constant() && isMemoizable(type)) {
+            Name table = memoTable(steps.get(steps.size() - 1).type(), getter.name(), type, tables, generated);
+            value = treeMaker.Indexed(treeMaker.Ident(table),
+                    treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Ident(last), names.fromString("ordinal")), List.nil()));
+        } else {
+            value = treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Ident(last), getter.name()), List.nil());
+        }
+
+        // 由内向外逐级包裹null判断
+        JCTree.JCStatement statement = treeMaker.If(treeMaker.Binary(JCTree.Tag.NE, treeMaker.Ident(last), nullLiteral()), treeMaker.Return(value), null);
+        for (int i = steps.size(); i >= 0; i--) {
+            Name local = names.fromString("$" + i);
+            JCTree.JCExpression init;
+            Type localType;
+            if (i == 0) {
+                init = treeMaker.Select(ident("this"), tree.getName());
+                localType = tree.sym.type;
+            } else {
+                PathStep step = steps.get(i - 1);
+                JCTree.JCExpression member = treeMaker.Select(treeMaker.Ident(names.fromString("$" + (i - 1))), step.name());
+                init = step.method() ? treeMaker.Apply(List.nil(), member, List.nil()) : member;
+                localType = step.type();
+            }
+            JCTree.JCVariableDecl variable = treeMaker.VarDef(treeMaker.Modifiers(0), local, treeMaker.Type(localType), init);
+            statement = i == 0
+                    ? treeMaker.Block(0, List.of(variable, statement))
+                    : treeMaker.If(treeMaker.Binary(JCTree.Tag.NE, treeMaker.Ident(names.fromString("$" + (i - 1))), nullLiteral()),
+                    treeMaker.Block(0, List.of(variable, statement)), null);
+        }
+        JCTree.JCBlock body = treeMaker.Block(0, List.of(statement, treeMaker.Return(nullDefaultValue(type, options.nullDefault, tree.sym))));
+        return treeMaker.MethodDef(treeMaker.Modifiers(Flags.PUBLIC), getMethodName, typeTree(type),
+                List.nil(), List.nil(), List.nil(), body, null);
+    }
+
+    /**
+     * 枚举数组及集合字段生成方法，直接遍历数组或集合（EnumSet同样直接迭代），不经过Stream及中间集合
+     * <pre>
+     * public java.util.List&lt;String&gt; getTagsDesc() {
+     *     if (this.tags == null) return java.util.Collections.emptyList();
+     *     java.util.List&lt;String&gt; result = new java.util.ArrayList&lt;String&gt;(this.tags.size());
+     *     for (TagEnum value : this.tags) result.add(value == null ? "" : value.getDesc());
+     *     return result;
+     * }
+     * </pre>
+     * 指定separator时拼接为字符串：
+     * <pre>
+     * public String getTagsDesc() {
+     *     if (this.tags == null) return "";
+     *     StringBuilder out = new StringBuilder();
+     *     String separator = "";
+     *     for (TagEnum value : this.tags) {
+     *         out.append(separator).append(value == null ? "" : value.getDesc());
+     *         separator = ", ";
+     *     }
+     *     return out.toString();
+     * }
+     * </pre>
+     * List按数组长度或集合大小预分配，只实现Iterable的字段使用默认容量；开启memoize时元素值读取预计算表
+     */
+    private JCTree.JCMethodDecl containerGetterMethod(Name getMethodName, EnumMetadata.Getter getter, JCTree.JCVariableDecl tree,
+                                                      Type elementType, DescOptions options, Map<String, Name> tables,
+                                                      ListBuffer<JCTree> generated) {
+        Type type = getter.returnType();
+        JCTree.JCExpression value;
+        if (options.memoize && !getter.constant() && isMemoizable(type)) {
+            Name table = memoTable(elementType, getter.name(), type, tables, generated);
+            value = treeMaker.Indexed(treeMaker.Ident(table), treeMaker.Apply(List.nil(), select("value.ordinal"), List.nil()));
+        } else {
+            value = treeMaker.Apply(List.nil(), treeMaker.Select(ident("value"), getter.name()), List.nil());
+        }
+        value = treeMaker.Conditional(isNull(ident("value")), nullDefaultValue(type, options.nullDefault, tree.sym), value);
+
+        JCTree.JCExpression field = treeMaker.Select(ident("this"), tree.getName());
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        JCTree.JCExpression returnType;
+        if (options.separator.isEmpty()) {
+            Type boxed = type.isPrimitive() ? (Type) processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).asType() : type;
+            returnType = treeMaker.TypeApply(select("java.util.List"), List.of(treeMaker.Type(boxed)));
+            statements.append(treeMaker.If(isNull(treeMaker.Select(ident("this"), tree.getName())),
+                    treeMaker.Return(treeMaker.Apply(List.nil(), select("java.util.Collections.emptyList"), List.nil())), null));
+
+            List<JCTree.JCExpression> capacity;
+            if (tree.sym.type instanceof Type.ArrayType) {
+                capacity = List.of(treeMaker.Select(treeMaker.Select(ident("this"), tree.getName()), names.fromString("length")));
+            } else if (isCollection(tree.sym.type)) {
+                capacity = List.of(treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Select(ident("this"), tree.getName()),
+                        names.fromString("size")), List.nil()));
+            } else {
+                capacity = List.nil();
+            }
+            statements.append(localVar("result", treeMaker.TypeApply(select("java.util.List"), List.of(treeMaker.Type(boxed))),
+                    treeMaker.NewClass(null, List.nil(), treeMaker.TypeApply(select("java.util.ArrayList"), List.of(treeMaker.Type(boxed))),
+                            capacity, null)));
+            statements.append(treeMaker.ForeachLoop(localVar("value", treeMaker.Type(elementType), null), field,
+                    treeMaker.Exec(treeMaker.Apply(List.nil(), select("result.add"), List.of(value)))));
+            statements.append(treeMaker.Return(ident("result")));
+        } else {
+            returnType = select("java.lang.String");
+            statements.append(treeMaker.If(isNull(treeMaker.Select(ident("this"), tree.getName())),
+                    treeMaker.Return(treeMaker.Literal("")), null));
+            statements.append(localVar("out", select("java.lang.StringBuilder"),
+                    treeMaker.NewClass(null, List.nil(), select("java.lang.StringBuilder"), List.nil(), null)));
+            statements.append(localVar("separator", select("java.lang.String"), treeMaker.Literal("")));
+            JCTree.JCExpression append = treeMaker.Apply(List.nil(), select("out.append"), List.of(ident("separator")));
+            append = treeMaker.Apply(List.nil(), treeMaker.Select(append, names.fromString("append")), List.of(value));
+            statements.append(treeMaker.ForeachLoop(localVar("value", treeMaker.Type(elementType), null), field,
+                    treeMaker.Block(0, List.of(treeMaker.Exec(append), assign(ident("separator"), treeMaker.Literal(options.separator))))));
+            statements.append(treeMaker.Return(treeMaker.Apply(List.nil(), select("out.toString"), List.nil())));
+        }
+
+        return treeMaker.MethodDef(
+                treeMaker.Modifiers(Flags.PUBLIC),
+                getMethodName,
+                returnType,
+                List.nil(),
+                List.nil(),
+                List.nil(),
+                treeMaker.Block(0, statements.toList()),
+                null
+        );
+    }
+
+    /**
+     * 是否为Collection，可按size()预分配
+     */
+    private boolean isCollection(Type type) {
+        TypeElement collection = processingEnv.getElementUtils().getTypeElement(Collection.class.getName());
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(collection.asType()));
+    }
+
+    /**
+     * 委托共享访问器的方法
+     * <pre>
+     * public String getStatusDesc() {
+     *     return demo.StatusEnumDescs.desc(this.status, "");
+     * }
+     * </pre>
+     * null判断及预计算表均在访问器中，各类中的方法只有一次静态调用，字节码极小，可被JIT内联
+     *
+     * @param accessor 访问方法的全限定名
+     */
+    private JCTree.JCMethodDecl accessorGetterMethod(Name getMethodName, EnumMetadata.Getter getter, JCTree.JCVariableDecl tree,
+                                                     DescOptions options, String accessor) {
+        Type type = getter.returnType();
+        JCTree.JCExpression nullDefault = nullDefaultValue(type, options.nullDefault, tree.sym);
+        // byte、short的整数字面量作为方法参数时不会自动收窄
+        TypeKind kind = type.isPrimitive() ? type.getKind() : unboxedKind(type);
+        if ((kind == TypeKind.BYTE || kind == TypeKind.SHORT) && nullDefault instanceof JCTree.JCLiteral literal && literal.value != null) {
+            nullDefault = treeMaker.TypeCast(treeMaker.TypeIdent(kind == TypeKind.BYTE ? TypeTag.BYTE : TypeTag.SHORT), nullDefault);
+        }
+        JCTree.JCExpression value = treeMaker.Apply(List.nil(), select(accessor),
+                List.of(treeMaker.Select(treeMaker.Ident(names.fromString("this")), tree.getName()), nullDefault));
+        return treeMaker.MethodDef(
+                treeMaker.Modifiers(Flags.PUBLIC),
+                getMethodName,
+                typeTree(type),
+                List.nil(),
+                List.nil(),
+                List.nil(),
+                treeMaker.Block(0, List.of(treeMaker.Return(value))),
+                null
+        );
+    }
+
+    /**
+     * 按Locale读取资源包的方法，各语言的返回值在编译期读取资源包后写入静态数组
+     * <pre>
+     * private static final String[] $STATUS_ENUM_DESC_ZH_CN = {"已支付", "未支付"};
+     * private static final String[] $STATUS_ENUM_DESC_EN = {"Paid", "Unpaid"};
+     *
+     * public String getStatusDesc(java.util.Locale locale) {
+     *     if (this.status == null) return "";
+     *     String[] table = $STATUS_ENUM_DESC_ZH_CN;
+     *     if (locale != null) {
+     *         String language = locale.getLanguage();
+     *         String country = locale.getCountry();
+     *         if ("zh".equals(language) &amp;&amp; "CN".equals(country)) table = $STATUS_ENUM_DESC_ZH_CN;
+     *         else if ("en".equals(language)) table = $STATUS_ENUM_DESC_EN;
+     *     }
+     *     return table[this.status.ordinal()];
+     * }
+     * </pre>
+     * 先按语言及国家匹配，再按语言匹配（该语言未单独配置时使用第一个同语言的locale），
+     * 均不匹配时使用基础资源包，不存在基础资源包时使用第一个locale；内容相同的数组在本类中共用。
+     * 资源包不存在、locale不合法或缺少键时编译报错并返回null
+     */
+    private JCTree.JCMethodDecl localeGetterMethod(Name getMethodName, EnumMetadata metadata, String attr, JCTree.JCVariableDecl tree,
+                                                   DescOptions options, Map<String, Name> tables, ListBuffer<JCTree> generated) {
+        if (bundles == null) {
+            bundles = new BundleResolver(processingEnv);
+        }
+        String attribute = Character.toLowerCase(attr.charAt(0)) + attr.substring(1);
+        String enumName = metadata.getType().getSimpleName().toString();
+
+        // 各语言的表，基础资源包在最后
+        java.util.List<Locale> locales = new ArrayList<>();
+        for (String tag : options.locales) {
+            Locale locale = BundleResolver.parseLocale(tag);
+            if (locale == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("@EnumDesc的locales中\"%s\"不是合法的locale", tag), tree.sym);
+                return null;
+            }
+            if (!locales.contains(locale)) {
+                locales.add(locale);
+            }
+        }
+        Map<Locale, Name> localeTables = new LinkedHashMap<>();
+        try {
+            if (bundles.exists(options.bundle, Locale.ROOT)) {
+                locales.add(Locale.ROOT);
+            } else if (locales.stream().noneMatch(locale -> bundles.exists(options.bundle, locale))) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("找不到资源包%s", options.bundle), tree.sym);
+                return null;
+            }
+            for (Locale locale : locales) {
+                ListBuffer<JCTree.JCExpression> values = new ListBuffer<>();
+                java.util.List<String> missing = new ArrayList<>();
+                StringBuilder content = new StringBuilder();
+                for (VariableElement constant : metadata.getConstants()) {
+                    String key = enumName + "." + constant.getSimpleName() + "." + attribute;
+                    String value = bundles.get(options.bundle, locale, key);
+                    if (value == null) {
+                        missing.add(key);
+                        continue;
+                    }
+                    values.append(treeMaker.Literal(value));
+                    content.append(value.length()).append(':').append(value);
+                }
+                if (!missing.isEmpty()) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            String.format("资源包%s（%s）中缺少%s", options.bundle,
+                                    locale == Locale.ROOT ? "基础资源包" : locale, String.join("、", missing)), tree.sym);
+                    return null;
+                }
+                localeTables.put(locale, localeTable(metadata, attr, locale, content.toString(), values.toList(), tables, generated));
+            }
+        } catch (IllegalStateException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), tree.sym);
+            return null;
+        }
+        Name defaultTable = localeTables.containsKey(Locale.ROOT) ? localeTables.get(Locale.ROOT) : localeTables.get(locales.get(0));
+
+        // 匹配条件：语言及国家在前，语言在后
+        Map<JCTree.JCExpression, Name> branches = new LinkedHashMap<>();
+        Map<String, Name> languages = new LinkedHashMap<>();
+        for (Locale locale : locales) {
+            if (locale == Locale.ROOT) {
+                continue;
+            }
+            Name table = localeTables.get(locale);
+            JCTree.JCExpression matchLanguage = stringEquals(locale.getLanguage(), "language");
+            if (locale.getCountry().isEmpty()) {
+                languages.put(locale.getLanguage(), table);
+            } else {
+                languages.putIfAbsent(locale.getLanguage(), table);
+                branches.put(treeMaker.Binary(JCTree.Tag.AND, matchLanguage, stringEquals(locale.getCountry(), "country")), table);
+            }
+        }
+        languages.forEach((language, table) -> {
+            // 与默认表相同的语言分支可省略：之后的分支都是其他语言
+            if (table != defaultTable) {
+                branches.put(stringEquals(language, "language"), table);
+            }
+        });
+
+        JCTree.JCStatement selection = null;
+        java.util.List<Map.Entry<JCTree.JCExpression, Name>> entries = new ArrayList<>(branches.entrySet());
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            selection = treeMaker.If(entries.get(i).getKey(), assign(ident("table"), treeMaker.Ident(entries.get(i).getValue())), selection);
+        }
+
+        Name locale = names.fromString("locale");
+        JCTree.JCExpression field = treeMaker.Select(treeMaker.Ident(names.fromString("this")), tree.getName());
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        statements.append(treeMaker.If(isNull(field), treeMaker.Return(treeMaker.Literal(options.nullDefault)), null));
+        statements.append(localVar("table", treeMaker.TypeArray(select("java.lang.String")), treeMaker.Ident(defaultTable)));
+        if (selection != null) {
+            statements.append(treeMaker.If(treeMaker.Binary(JCTree.Tag.NE, treeMaker.Ident(locale), nullLiteral()),
+                    treeMaker.Block(0, List.of(
+                            localVar("language", select("java.lang.String"),
+                                    treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Ident(locale), names.fromString("getLanguage")), List.nil())),
+                            localVar("country", select("java.lang.String"),
+                                    treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Ident(locale), names.fromString("getCountry")), List.nil())),
+                            selection)),
+                    null));
+        }
+        statements.append(treeMaker.Return(treeMaker.Indexed(ident("table"),
+                treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Select(treeMaker.Ident(names.fromString("this")), tree.getName()),
+                        names.fromString("ordinal")), List.nil()))));
+
+        JCTree.JCVariableDecl parameter = treeMaker.VarDef(treeMaker.Modifiers(Flags.PARAMETER), locale, select("java.util.Locale"), null);
+        return treeMaker.MethodDef(
+                treeMaker.Modifiers(Flags.PUBLIC),
+                getMethodName,
+                select("java.lang.String"),
+                List.nil(),
+                List.of(parameter),
+                List.nil(),
+                treeMaker.Block(0, statements.toList()),
+                null
+        );
+    }
+
+    /**
+     * 单个语言的静态数组 如：$STATUS_ENUM_DESC_ZH_CN，基础资源包为$STATUS_ENUM_DESC_ROOT，内容相同时共用
+     */
+    private Name localeTable(EnumMetadata metadata, String attr, Locale locale, String content,
+                             List<JCTree.JCExpression> values, Map<String, Name> tables, ListBuffer<JCTree> generated) {
+        String key = metadata.getType().getQualifiedName() + "#" + attr + "#" + content;
+        Name table = tables.get(key);
+        if (table != null) {
+            return table;
+        }
+        String prefix = String.format("$%s_%s_%s", constantCase(metadata.getType().getSimpleName().toString()), constantCase(attr),
+                locale == Locale.ROOT ? "ROOT" : locale.toLanguageTag().replace('-', '_').toUpperCase(Locale.ROOT));
+        table = names.fromString(prefix);
+        for (int i = 1; tables.containsValue(table); i++) {
+            table = names.fromString(prefix + i);
+        }
+        tables.put(key, table);
+        generated.append(treeMaker.VarDef(treeMaker.Modifiers(Flags.PRIVATE | Flags.STATIC | Flags.FINAL), table,
+                treeMaker.TypeArray(select("java.lang.String")), treeMaker.NewArray(null, List.nil(), values)));
+        return table;
+    }
+
+    /**
+     * 排序键表 以ordinal为下标，属性值按Collator排序后的排名，本类初始化时计算一次
+     * <pre>
+     * private static final int[] $STATUS_ENUM_DESC_RANK;
+     * static {
+     *     StatusEnum[] values = StatusEnum.values();
+     *     String[] keys = new String[values.length];
+     *     for (int i = 0; i &lt; values.length; i++) keys[i] = values[i].getDesc();
+     *     java.text.Collator collator = java.text.Collator.getInstance(java.util.Locale.forLanguageTag("zh-CN"));
+     *     int[] rank = new int[values.length];
+     *     for (int i = 0; i &lt; values.length; i++) {
+     *         int r = 0;
+     *         for (int j = 0; j &lt; values.length; j++) {
+     *             if (keys[j] == null ? keys[i] != null : keys[i] != null &amp;&amp; collator.compare(keys[j], keys[i]) &lt; 0) r++;
+     *         }
+     *         rank[i] = r;
+     *     }
+     *     $STATUS_ENUM_DESC_RANK = rank;
+     * }
+     * </pre>
+     * 排名为小于该值的常量个数，相同的值排名相同；常量数量很少，逐对比较即可。
+     * 未指定collator时使用 {@code keys[j].compareTo(keys[i])}；同一类中相同枚举、属性及collator共用一张表
+     */
+    private Name rankTable(EnumMetadata metadata, EnumMetadata.Getter getter, String collator, Element annotated,
+                           Map<String, Name> tables, ListBuffer<JCTree> generated) {
+        TypeElement enumType = metadata.getType();
+        String key = "rank#" + enumType.getQualifiedName() + "#" + getter.name() + "#" + collator;
+        if (tables.containsKey(key)) {
+            return tables.get(key);
+        }
+        Locale locale = collator.isEmpty() ? null : BundleResolver.parseLocale(collator);
+        if (!collator.isEmpty() && locale == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("@EnumDesc的collator \"%s\" 不是合法的locale", collator), annotated);
+        }
+        Name table = uniqueName(String.format("$%s_%s_RANK", constantCase(enumType.getSimpleName().toString()),
+                constantCase(getter.name().toString().substring(3))), key, tables);
+
+        JCTree.JCExpression enumTree = select(enumType.getQualifiedName().toString());
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        statements.append(localVar("values", treeMaker.TypeArray(enumTree),
+                treeMaker.Apply(List.nil(), treeMaker.Select(select(enumType.getQualifiedName().toString()), names.fromString("values")), List.nil())));
+        statements.append(localVar("keys", treeMaker.TypeArray(select("java.lang.String")),
+                treeMaker.NewArray(select("java.lang.String"), List.of(select("values.length")), null)));
+        statements.append(treeMaker.ForLoop(
+                List.of(localVar("i", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0))),
+                treeMaker.Binary(JCTree.Tag.LT, ident("i"), select("values.length")),
+                List.of(treeMaker.Exec(treeMaker.Unary(JCTree.Tag.POSTINC, ident("i")))),
+                assign(treeMaker.Indexed(ident("keys"), ident("i")),
+                        treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Indexed(ident("values"), ident("i")), getter.name()), List.nil()))));
+        JCTree.JCExpression compare;
+        if (locale != null) {
+            statements.append(localVar("collator", select("java.text.Collator"),
+                    treeMaker.Apply(List.nil(), select("java.text.Collator.getInstance"), List.of(
+                            treeMaker.Apply(List.nil(), select("java.util.Locale.forLanguageTag"), List.of(treeMaker.Literal(locale.toLanguageTag())))))));
+            compare = treeMaker.Apply(List.nil(), select("collator.compare"),
+                    List.of(treeMaker.Indexed(ident("keys"), ident("j")), treeMaker.Indexed(ident("keys"), ident("i"))));
+        } else {
+            compare = treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Indexed(ident("keys"), ident("j")), names.fromString("compareTo")),
+                    List.of(treeMaker.Indexed(ident("keys"), ident("i"))));
+        }
+        JCTree.JCExpression less = treeMaker.Conditional(isNull(treeMaker.Indexed(ident("keys"), ident("j"))),
+                treeMaker.Binary(JCTree.Tag.NE, treeMaker.Indexed(ident("keys"), ident("i")), nullLiteral()),
+                treeMaker.Binary(JCTree.Tag.AND,
+                        treeMaker.Binary(JCTree.Tag.NE, treeMaker.Indexed(ident("keys"), ident("i")), nullLiteral()),
+                        treeMaker.Binary(JCTree.Tag.LT, compare, treeMaker.Literal(0))));
+        statements.append(localVar("rank", treeMaker.TypeArray(treeMaker.TypeIdent(TypeTag.INT)),
+                treeMaker.NewArray(treeMaker.TypeIdent(TypeTag.INT), List.of(select("values.length")), null)));
+        statements.append(treeMaker.ForLoop(
+                List.of(localVar("i", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0))),
+                treeMaker.Binary(JCTree.Tag.LT, ident("i"), select("values.length")),
+                List.of(treeMaker.Exec(treeMaker.Unary(JCTree.Tag.POSTINC, ident("i")))),
+                treeMaker.Block(0, List.of(
+                        localVar("r", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0)),
+                        treeMaker.ForLoop(
+                                List.of(localVar("j", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0))),
+                                treeMaker.Binary(JCTree.Tag.LT, ident("j"), select("values.length")),
+                                List.of(treeMaker.Exec(treeMaker.Unary(JCTree.Tag.POSTINC, ident("j")))),
+                                treeMaker.If(less, treeMaker.Exec(treeMaker.Unary(JCTree.Tag.POSTINC, ident("r"))), null)),
+                        assign(treeMaker.Indexed(ident("rank"), ident("i")), ident("r"))))));
+        statements.append(assign(treeMaker.Ident(table), ident("rank")));
+
+        generated.append(staticField(table, treeMaker.TypeArray(treeMaker.TypeIdent(TypeTag.INT))));
+        generated.append(treeMaker.Block(Flags.STATIC, statements.toList()));
+        return table;
+    }
+
+    /**
+     * 排序键方法
+     * <pre>
+     * public int getStatusDescRank() {
+     *     if (this.status == null) return -1;
+     *     return $STATUS_ENUM_DESC_RANK[this.status.ordinal()];
+     * }
+     * </pre>
+     */
+    private JCTree.JCMethodDecl rankGetterMethod(Name methodName, JCTree.JCVariableDecl tree, Name table) {
+        JCTree.JCExpression ordinal = treeMaker.Apply(List.nil(),
+                treeMaker.Select(treeMaker.Select(ident("this"), tree.getName()), names.fromString("ordinal")), List.nil());
+        return treeMaker.MethodDef(
+                treeMaker.Modifiers(Flags.PUBLIC),
+                methodName,
+                treeMaker.TypeIdent(TypeTag.INT),
+                List.nil(),
+                List.nil(),
+                List.nil(),
+                treeMaker.Block(0, List.of(
+                        treeMaker.If(notNull(tree.getName()), treeMaker.Return(treeMaker.Indexed(treeMaker.Ident(table), ordinal)), null),
+                        treeMaker.Return(treeMaker.Literal(-1)))),
+                null
+        );
+    }
+
+    /**
+     * 按排序键比较的Comparator，泛型类使用通配符
+     * <pre>
+     * public static final java.util.Comparator&lt;Order&gt; STATUS_DESC_ORDER = java.util.Comparator.comparingInt(Order::getStatusDescRank);
+     * </pre>
+     */
+    private JCTree.JCVariableDecl orderField(Name name, JCTree.JCClassDecl classDecl, Name rankMethodName) {
+        JCTree.JCExpression owner = treeMaker.Ident(classDecl.name);
+        if (classDecl.typarams.nonEmpty()) {
+            ListBuffer<JCTree.JCExpression> wildcards = new ListBuffer<>();
+            for (int i = 0; i < classDecl.typarams.size(); i++) {
+                wildcards.append(treeMaker.Wildcard(treeMaker.TypeBoundKind(BoundKind.UNBOUND), null));
+            }
+            owner = treeMaker.TypeApply(owner, wildcards.toList());
+        }
+        JCTree.JCExpression comparator = treeMaker.Apply(List.nil(), select("java.util.Comparator.comparingInt"),
+                List.of(treeMaker.Reference(MemberReferenceTree.ReferenceMode.INVOKE, rankMethodName, treeMaker.Ident(classDecl.name), null)));
+        return treeMaker.VarDef(treeMaker.Modifiers(Flags.PUBLIC | Flags.STATIC | Flags.FINAL), name,
+                treeMaker.TypeApply(select("java.util.Comparator"), List.of(owner)), comparator);
+    }
+
+    /**
+     * 生成 "literal".equals(variable)
+     */
+    private JCTree.JCExpression stringEquals(String literal, String variable) {
+        return treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Literal(literal), names.fromString("equals")), List.of(ident(variable)));
+    }
+
+    private boolean isString(Type type) {
+        return String.class.getName().equals(type.tsym.getQualifiedName().toString());
+    }
+
+    /**
+     * 包装类型对应的基本类型，不是包装类型时返回null
+     */
+    private TypeKind unboxedKind(Type type) {
+        try {
+            return processingEnv.getTypeUtils().unboxedType(type).getKind();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 生成输出方法 按字段声明顺序将生成的属性以lombok toString的格式追加到out
+     * <pre>
+     * public StringBuilder writeEnumDescs(StringBuilder out) {
+     *     out.append("statusDesc=").append(getStatusDesc());
+     *     out.append(", statusCode=").append(getStatusCode());
+     *     return out;
+     * }
+     * </pre>
+     * 直接调用生成的get方法，基本类型使用StringBuilder对应的append重载，不经过反射、中间集合及临时字符串
+     */
+    private JCTree.JCMethodDecl writeEnumDescsMethod(Map<Name, GeneratedGetter> getters) {
+        Name out = names.fromString("out");
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        String separator = "";
+        for (Map.Entry<Name, GeneratedGetter> getter : getters.entrySet()) {
+            JCTree.JCExpression key = treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Ident(out), names.fromString("append")),
+                    List.of(treeMaker.Literal(separator + getter.getValue().property() + "=")));
+            JCTree.JCExpression value = treeMaker.Apply(List.nil(), treeMaker.Ident(getter.getKey()), List.nil());
+            statements.append(treeMaker.Exec(treeMaker.Apply(List.nil(), treeMaker.Select(key, names.fromString("append")), List.of(value))));
+            separator = ", ";
+        }
+        statements.append(treeMaker.Return(treeMaker.Ident(out)));
+
+        JCTree.JCVariableDecl parameter = treeMaker.VarDef(treeMaker.Modifiers(Flags.PARAMETER), out, select("java.lang.StringBuilder"), null);
+        return treeMaker.MethodDef(
+                treeMaker.Modifiers(Flags.PUBLIC),
+                names.fromString(WRITE_ENUM_DESCS),
+                select("java.lang.StringBuilder"),
+                List.nil(),
+                List.of(parameter),
+                List.nil(),
+                treeMaker.Block(0, statements.toList()),
+                null
+        );
+    }
+
+    /**
+     * 根据符号表中的类型生成类型节点
+     */
+    private JCTree.JCExpression typeTree(Type type) {
+        return type.isPrimitive() ? treeMaker.TypeIdent(type.getTag()) : treeMaker.Type(type);
+    }
+
+    /**
+     * 预计算表 以枚举ordinal为下标，枚举类初始化后在本类初始化时计算一次
+     * <pre>
+     * private static final String[] $STATUS_ENUM_DESC;
+     * static {
+     *     StatusEnum[] values = StatusEnum.values();
+     *     String[] table = new String[values.length];
+     *     for (int i = 0; i < values.length; i++) table[i] = values[i].getDesc();
+     *     $STATUS_ENUM_DESC = table;
+     * }
+     * </pre>
+     * 同一类中相同枚举的相同属性共用一张表
+     */
+    private Name memoTable(Type enumType, Name getter, Type type, Map<String, Name> tables, ListBuffer<JCTree> generated) {
+        String key = enumType.tsym.getQualifiedName() + "#" + getter;
+        Name table = tables.get(key);
+        if (table != null) {
+            return table;
+        }
+        String prefix = String.format("$%s_%s", constantCase(enumType.tsym.getSimpleName().toString()),
+                constantCase(getter.toString().substring(3)));
+        table = names.fromString(prefix);
+        for (int i = 1; tables.containsValue(table); i++) {
+            table = names.fromString(prefix + i);
+        }
+        tables.put(key, table);
+
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        statements.append(localVar("values", treeMaker.TypeArray(treeMaker.Type(enumType)),
+                treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Type(enumType), names.fromString("values")), List.nil())));
+        statements.append(localVar("table", treeMaker.TypeArray(typeTree(type)),
+                treeMaker.NewArray(typeTree(type), List.of(select("values.length")), null)));
+        statements.append(treeMaker.ForLoop(
+                List.of(localVar("i", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0))),
+                treeMaker.Binary(JCTree.Tag.LT, ident("i"), select("values.length")),
+                List.of(treeMaker.Exec(treeMaker.Unary(JCTree.Tag.POSTINC, ident("i")))),
+                assign(treeMaker.Indexed(ident("table"), ident("i")),
+                        treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Indexed(ident("values"), ident("i")), getter), List.nil()))));
+        statements.append(assign(treeMaker.Ident(table), ident("table")));
+
+        generated.append(staticField(table, treeMaker.TypeArray(typeTree(type))));
+        generated.append(treeMaker.Block(Flags.STATIC, statements.toList()));
+        return table;
+    }
+
+    /**
+     * 枚举字段为null时的返回值
+     */
+    private JCTree.JCExpression nullDefaultValue(Type type, String nullDefault, Element annotated) {
+        Object value = EnumDescSupport.nullDefault(processingEnv, type, nullDefault, annotated);
+        if (value == null || value == EnumDescSupport.INVALID) {
+            return treeMaker.Literal(TypeTag.BOT, null);
+        }
+        if (value instanceof Byte || value instanceof Short) {
+            return treeMaker.Literal(((Number) value).intValue());
+        }
+        return treeMaker.Literal(value);
+    }
+
+    /**
+     * 枚举中不存在属性对应的get方法时输出错误
+     * <p>
+     * 只使用javax.lang.model，filer后端同样使用
+     *
+     * @param attr     首字母大写的属性名 如：Desc
+     * @param enumType 枚举类型
+     * @param element  输出错误的元素
+     */
+    private void missingGetter(String attr, TypeElement enumType, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                String.format("@EnumDesc属性%s无效：枚举%s中不存在public方法get%s()",
+                        Character.toLowerCase(attr.charAt(0)) + attr.substring(1), enumType.getQualifiedName(), attr),
+                element);
+    }
+
     /**
      * 创建get方法名
      */
-    private Name createGetMethodName(Name variableName, String suffix) {
-        String getMethodName = String.format("get%s%s", super.upperCase(variableName.toString()), suffix);
-        return names.fromString(getMethodName);
+    private Name createGetMethodName(String variableName, String suffix, TypeElement owner) {
+        return names.fromString(getMethodName(variableName, suffix, owner));
+    }
+
+    /**
+     * get方法名：类中为getStatusDesc，record中与组件访问方法一致，为statusDesc
+     * <p>
+     * 只使用javax.lang.model，filer后端同样使用
+     */
+    private String getMethodName(String variableName, String suffix, TypeElement owner) {
+        return owner.getKind() == ElementKind.RECORD
+                ? variableName + suffix
+                : String.format("get%s%s", super.upperCase(variableName), suffix);
     }
 
     @Override
@@ -275,4 +1822,117 @@ public class EnumDescProcessor extends AgentProcessor {
         return annotationTypes;
     }
 
+    @Override
+    protected void release() {
+        super.release();
+        registry = null;
+        companions = null;
+        accessors = null;
+        bundles = null;
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new HashSet<>();
+        options.add(REGISTRY_OPTION);
+        options.add(BACKEND_OPTION);
+        options.add(ACCESSOR_OPTION);
+        options.add(RESOURCES_OPTION);
+        return options;
+    }
+
+    /**
+     * filer后端不修改语法树，不需要javac内部API
+     */
+    @Override
+    protected boolean requiresJavacInternals(Map<String, String> options) {
+        return !isFilerBackend(options);
+    }
+
+    private static boolean isFilerBackend(Map<String, String> options) {
+        return BACKEND_FILER.equalsIgnoreCase(String.valueOf(options.get(BACKEND_OPTION)).trim());
+    }
+
+    /**
+     * 开启枚举字典注册表时，注册表依赖全部注解元素，为aggregating；
+     * 指定了资源包目录时，生成的多语言方法依赖编译期读取的资源文件，资源文件不是originating element，同样为aggregating
+     */
+    @Override
+    protected boolean isIsolating(Map<String, String> options) {
+        return !isRegistryEnabled(options) && !isResourcesEnabled(options);
+    }
+
+    private static boolean isResourcesEnabled(Map<String, String> options) {
+        String resources = options.get(RESOURCES_OPTION);
+        return resources != null && !resources.isBlank();
+    }
+
+    private static boolean isRegistryEnabled(Map<String, String> options) {
+        String registryName = options.get(REGISTRY_OPTION);
+        return registryName != null && !registryName.isBlank();
+    }
+
+    /**
+     * 元素上@EnumDesc的配置
+     *
+     * @param attributes  首字母大写的属性名
+     * @param nullDefault 枚举字段为null时的返回值
+     * @param memoize     是否预计算
+     * @param separator   枚举数组及集合字段的分隔符，为空时返回List
+     * @param rank        是否生成排序键
+     * @param collator    排序键使用的Collator的locale，为空时按String自然顺序
+     * @param codec       是否生成枚举字段的编解码方法
+     * @param bundle      资源包基础名，未指定时为""
+     * @param locales     资源包的语言
+     * @param path        非枚举字段中枚举所在的路径，未指定时为""
+     * @param columns     是否生成列描述
+     * @param format      组合描述模板，未指定时为""
+     * @param formatName  组合描述的方法名后缀
+     */
+    record DescOptions(Set<String> attributes, String nullDefault, boolean memoize, String separator,
+                       boolean rank, String collator, boolean codec, String bundle, java.util.List<String> locales,
+                       String path, boolean columns, String format, String formatName) {
+    }
+
+    /**
+     * 生成的get方法
+     *
+     * @param property writeEnumDescs及列描述中的名称 如：statusDesc
+     * @param field    所属字段
+     * @param type     返回值类型
+     */
+    private record GeneratedGetter(String property, Name field, Type type) {
+    }
+
+    /**
+     * 路径中的一级
+     *
+     * @param name   get方法、record访问方法或字段名
+     * @param method 是否为方法
+     * @param type   该级的类型
+     */
+    private record PathStep(Name name, boolean method, Type type) {
+    }
+
+    /**
+     * 单个类的待处理信息
+     */
+    private static class ClassContext {
+
+        private final TypeElement type;
+        /**
+         * 类上是否标注@EnumDesc
+         */
+        private boolean annotated;
+        /**
+         * 标注@EnumDesc的字段
+         */
+        private final Set<Element> fields = new HashSet<>();
+
+        private ClassContext(TypeElement type) {
+            this.type = type;
+        }
+
+    }
+
 }
\ No newline at end of file
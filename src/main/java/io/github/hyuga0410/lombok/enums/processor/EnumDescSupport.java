@@ -0,0 +1,165 @@
+package io.github.hyuga0410.lombok.enums.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+/**
+ * 语法树后端与filer后端共用的工具方法
+ * <p>
+ * 只使用javax.lang.model，filer后端调用时不依赖jdk.compiler内部包
+ *
+ * @since 2026/10/17
+ */
+final class EnumDescSupport {
+
+    /**
+     * nullDefault不合法，错误已输出
+     */
+    static final Object INVALID = new Object();
+
+    private EnumDescSupport() {
+    }
+
+    /**
+     * 驼峰转大写下划线 如：StatusEnum -> STATUS_ENUM
+     */
+    static String constantCase(String name) {
+        StringBuilder builder = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(name.charAt(i - 1))) {
+                builder.append('_');
+            }
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 是否可以预计算：基本类型或非泛型的类类型（泛型数组无法创建）
+     */
+    static boolean isMemoizable(TypeMirror type) {
+        return type.getKind().isPrimitive()
+                || (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty());
+    }
+
+    /**
+     * 是否为String类型
+     */
+    private static boolean isString(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(String.class.getName());
+    }
+
+    /**
+     * 解析枚举字段为null时的返回值
+     *
+     * @param processingEnv 处理环境
+     * @param type          属性类型
+     * @param nullDefault   @EnumDesc的nullDefault
+     * @param annotated     输出错误的元素
+     * @return String、基本类型的包装值；引用类型未指定时返回null；不合法时输出错误并返回{@link #INVALID}
+     */
+    static Object nullDefault(ProcessingEnvironment processingEnv, TypeMirror type, String nullDefault, Element annotated) {
+        if (isString(type)) {
+            return nullDefault;
+        }
+
+        TypeKind kind = type.getKind();
+        if (!kind.isPrimitive()) {
+            try {
+                kind = processingEnv.getTypeUtils().unboxedType(type).getKind();
+            } catch (IllegalArgumentException e) {
+                kind = null;
+            }
+            if (nullDefault.isEmpty()) {
+                return null;
+            }
+        }
+
+        try {
+            if (kind == null) {
+                throw new IllegalArgumentException();
+            }
+            switch (kind) {
+                case BOOLEAN:
+                    if (!nullDefault.isEmpty() && !"true".equals(nullDefault) && !"false".equals(nullDefault)) {
+                        throw new IllegalArgumentException();
+                    }
+                    return Boolean.parseBoolean(nullDefault);
+                case CHAR:
+                    if (nullDefault.length() > 1) {
+                        throw new IllegalArgumentException();
+                    }
+                    return nullDefault.isEmpty() ? '\0' : nullDefault.charAt(0);
+                case BYTE:
+                    return nullDefault.isEmpty() ? (byte) 0 : Byte.parseByte(nullDefault);
+                case SHORT:
+                    return nullDefault.isEmpty() ? (short) 0 : Short.parseShort(nullDefault);
+                case INT:
+                    return nullDefault.isEmpty() ? 0 : Integer.parseInt(nullDefault);
+                case LONG:
+                    return nullDefault.isEmpty() ? 0L : Long.parseLong(nullDefault);
+                case FLOAT:
+                    return nullDefault.isEmpty() ? 0F : Float.parseFloat(nullDefault);
+                case DOUBLE:
+                    return nullDefault.isEmpty() ? 0D : Double.parseDouble(nullDefault);
+                default:
+                    throw new IllegalArgumentException();
+            }
+        } catch (IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("@EnumDesc的nullDefault \"%s\" 不是合法的%s值", nullDefault, type), annotated);
+            return INVALID;
+        }
+    }
+
+    /**
+     * 获取元素所在的顶层类型
+     */
+    static TypeElement topLevelType(Element element) {
+        Element current = element;
+        while (current.getEnclosingElement() != null && current.getEnclosingElement().getKind() != ElementKind.PACKAGE
+                && current.getEnclosingElement().getKind() != ElementKind.MODULE) {
+            current = current.getEnclosingElement();
+        }
+        return (TypeElement) current;
+    }
+
+    /**
+     * 类型及其外部类均为public
+     */
+    static boolean isPublic(TypeElement type) {
+        for (Element current = type; current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            if (!current.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 类型及其外部类在指定包中可访问：均不是private，且均为public或与指定包相同
+     */
+    static boolean isAccessible(TypeElement type, String packageName) {
+        Element current = type;
+        boolean isPublic = true;
+        while (current.getKind() != ElementKind.PACKAGE) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            isPublic = isPublic && current.getModifiers().contains(Modifier.PUBLIC);
+            current = current.getEnclosingElement();
+        }
+        return isPublic || ((PackageElement) current).getQualifiedName().contentEquals(packageName);
+    }
+
+}
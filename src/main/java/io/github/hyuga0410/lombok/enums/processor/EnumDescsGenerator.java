@@ -0,0 +1,343 @@
+package io.github.hyuga0410.lombok.enums.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.constantCase;
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.isAccessible;
+import static io.github.hyuga0410.lombok.enums.processor.EnumDescSupport.isMemoizable;
+
+/**
+ * 伴生类生成（filer后端）
+ * <p>
+ * 通过处理器参数开启：
+ * <pre>
+ * -Alombok.enums.backend=filer
+ * </pre>
+ * 不修改语法树，为每个包含@EnumDesc的顶层类型通过Filer生成伴生类 {@code <顶层类名>EnumDescs}，
+ * 只使用javax.lang.model，不需要开放jdk.compiler内部包，也不需要{@code --add-exports}参数：
+ * <pre>
+ * public static String getStatusDesc(StatusEnum value) {
+ *     if (value == null) return "";
+ *     return value.getDesc();
+ * }
+ *
+ * public static String getStatusDesc(Order owner) {
+ *     return getStatusDesc(owner.status);
+ * }
+ * </pre>
+ * - 以枚举值为参数的方法可在类中手写的get方法中调用 <br>
+ * - 以所在类为参数的方法需读取字段：字段非private时直接读取，否则调用类中非private的{@code get<字段名>()}，均不可用时不生成 <br>
+ * - 同一顶层类型中同名字段引用同一枚举时共用以枚举值为参数的方法，@EnumDesc配置不同时后者只生成以所在类为参数的方法 <br>
+ * - 每个伴生类只有所在的顶层类型一个originating element，为isolating，可用于并行编译、增量编译及构建缓存 <br>
+ * - get方法的返回值无法从源码判断是否只读取final字段，开启memoize时可预计算的属性均生成预计算表
+ *
+ * @since 2026/10/17
+ */
+class EnumDescsGenerator {
+
+    /**
+     * 伴生类名后缀
+     */
+    static final String SUFFIX = "EnumDescs";
+
+    private static final String INDENT = "    ";
+
+    private final ProcessingEnvironment processingEnv;
+    /**
+     * 本轮各枚举的public、非static、无参数方法，每轮清空
+     */
+    private final Map<TypeElement, Map<String, ExecutableElement>> getters = new HashMap<>();
+
+    EnumDescsGenerator(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * 开始新的一轮：javac在新的一轮会重新进入源码中的类
+     */
+    void roundStarted() {
+        getters.clear();
+    }
+
+    /**
+     * 获取枚举中public、非static、无参数的方法，不存在时返回null
+     */
+    ExecutableElement getter(TypeElement enumType, String name) {
+        return getters.computeIfAbsent(enumType, key -> {
+            Map<String, ExecutableElement> methods = new HashMap<>();
+            for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(key))) {
+                Set<Modifier> modifiers = method.getModifiers();
+                if (method.getParameters().isEmpty() && modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)) {
+                    methods.putIfAbsent(method.getSimpleName().toString(), method);
+                }
+            }
+            return methods;
+        }).get(name);
+    }
+
+    /**
+     * 生成一个顶层类型的伴生类
+     *
+     * @param topLevel 顶层类型，唯一的originating element
+     * @param methods  按字段声明顺序的方法
+     */
+    void generate(TypeElement topLevel, List<DescMethod> methods) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(topLevel).getQualifiedName().toString();
+        String simpleName = topLevel.getSimpleName() + SUFFIX;
+
+        StringBuilder tables = new StringBuilder();
+        StringBuilder body = new StringBuilder(1024);
+        Map<String, DescMethod> signatures = new HashMap<>();
+        Map<String, String> tableNames = new HashMap<>();
+        Map<TypeElement, Map<String, String>> writers = new LinkedHashMap<>();
+        for (DescMethod method : methods) {
+            TypeElement enumType = (TypeElement) ((DeclaredType) method.field.asType()).asElement();
+            if (!isAccessible(enumType, packageName)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("%s在%s中不可访问，无法生成伴生类方法", enumType.getQualifiedName(), simpleName), method.field);
+                continue;
+            }
+            String literal = nullDefaultLiteral(method.getter.getReturnType(), method.options.nullDefault(), method.field);
+            if (literal == null) {
+                continue;
+            }
+
+            TypeMirror returnType = method.getter.getReturnType();
+            String value = method.options.memoize() && isMemoizable(returnType)
+                    ? memoTable(tables, tableNames, enumType, method.getter, returnType) + "[value.ordinal()]"
+                    : "value." + method.getter.getSimpleName() + "()";
+
+            // 以枚举值为参数的方法，同名同参数类型的方法只生成一次；不同字段的配置不同时，以所在类为参数的方法不再委托
+            String signature = method.name + "(" + enumType.getQualifiedName() + ")";
+            DescMethod existing = signatures.putIfAbsent(signature, method);
+            boolean delegate = existing == null || (existing.getter.equals(method.getter)
+                    && existing.options.nullDefault().equals(method.options.nullDefault()) && existing.options.memoize() == method.options.memoize());
+            if (existing == null) {
+                appendMethod(body, returnType, method.name, enumType.getQualifiedName().toString(), null, literal, value);
+            }
+
+            // 以所在类为参数的方法
+            String access = fieldAccess(method.owner, method.field, packageName);
+            if (access == null) {
+                if (!delegate) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            String.format("%s中已存在不同配置的方法%s，且无法读取字段%s，未生成方法", simpleName, signature, method.field.getSimpleName()),
+                            method.field);
+                }
+                continue;
+            }
+            if (delegate) {
+                body.append(INDENT).append("public static ").append(returnType).append(' ').append(method.name)
+                        .append('(').append(typeName(method.owner)).append(" owner) {\n")
+                        .append(INDENT).append(INDENT).append("return ").append(method.name).append('(').append(access).append(");\n")
+                        .append(INDENT).append("}\n\n");
+            } else {
+                appendMethod(body, returnType, method.name, typeName(method.owner) + " owner", enumType.getQualifiedName() + " value = " + access,
+                        literal, value);
+            }
+            writers.computeIfAbsent(method.owner, key -> new LinkedHashMap<>())
+                    .put(method.name, method.field.getSimpleName() + method.attribute);
+        }
+        writers.forEach((owner, properties) -> appendWriteMethod(body, owner, properties));
+
+        StringBuilder out = new StringBuilder(body.length() + tables.length() + 512);
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n * ").append(topLevel.getSimpleName()).append("的枚举描述方法 由lombok-enum-component生成，请勿修改\n")
+                .append(" * 生成者：").append(EnumDescProcessor.class.getName()).append("\n */\n")
+                .append(topLevel.getModifiers().contains(Modifier.PUBLIC) ? "public " : "").append("final class ").append(simpleName).append(" {\n\n")
+                .append(tables)
+                .append(INDENT).append("private ").append(simpleName).append("() {\n")
+                .append(INDENT).append("}\n\n")
+                .append(body)
+                .append("}\n");
+
+        String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            JavaFileObject source = processingEnv.getFiler().createSourceFile(name, topLevel);
+            try (Writer writer = source.openWriter()) {
+                writer.write(out.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("无法生成伴生类%s：%s", name, e), topLevel);
+        }
+    }
+
+    /**
+     * 生成方法：枚举值为null时返回nullDefault，否则返回属性值
+     *
+     * @param parameter 参数，为枚举类型时参数名为value
+     * @param local     参数不是枚举时读取枚举值的局部变量声明，否则为null
+     */
+    private void appendMethod(StringBuilder out, TypeMirror returnType, String name, String parameter, String local,
+                              String literal, String value) {
+        out.append(INDENT).append("public static ").append(returnType).append(' ').append(name)
+                .append('(').append(parameter).append(local == null ? " value" : "").append(") {\n");
+        if (local != null) {
+            out.append(INDENT).append(INDENT).append(local).append(";\n");
+        }
+        out.append(INDENT).append(INDENT).append("if (value == null) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("return ").append(literal).append(";\n")
+                .append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append(INDENT).append("return ").append(value).append(";\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    /**
+     * 按字段声明顺序将属性以lombok toString的格式追加到out，见EnumDescProcessor生成的writeEnumDescs
+     */
+    private void appendWriteMethod(StringBuilder out, TypeElement owner, Map<String, String> properties) {
+        out.append(INDENT).append("public static StringBuilder writeEnumDescs(").append(typeName(owner)).append(" owner, StringBuilder out) {\n");
+        String separator = "";
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            out.append(INDENT).append(INDENT).append("out.append(\"").append(separator).append(property.getValue()).append("=\").append(")
+                    .append(property.getKey()).append("(owner));\n");
+            separator = ", ";
+        }
+        out.append(INDENT).append(INDENT).append("return out;\n")
+                .append(INDENT).append("}\n\n");
+    }
+
+    /**
+     * 预计算表 以枚举ordinal为下标，伴生类初始化时计算一次，同一枚举的相同属性共用一张表
+     */
+    private String memoTable(StringBuilder tables, Map<String, String> tableNames, TypeElement enumType,
+                             ExecutableElement getter, TypeMirror type) {
+        String key = enumType.getQualifiedName() + "#" + getter.getSimpleName();
+        String table = tableNames.get(key);
+        if (table != null) {
+            return table;
+        }
+        String prefix = String.format("$%s_%s", constantCase(enumType.getSimpleName().toString()),
+                constantCase(getter.getSimpleName().toString().substring(3)));
+        table = prefix;
+        for (int i = 1; tableNames.containsValue(table); i++) {
+            table = prefix + i;
+        }
+        tableNames.put(key, table);
+
+        String enumName = enumType.getQualifiedName().toString();
+        tables.append(INDENT).append("private static final ").append(type).append("[] ").append(table).append(";\n\n")
+                .append(INDENT).append("static {\n")
+                .append(INDENT).append(INDENT).append(enumName).append("[] values = ").append(enumName).append(".values();\n")
+                .append(INDENT).append(INDENT).append(type).append("[] table = new ").append(type).append("[values.length];\n")
+                .append(INDENT).append(INDENT).append("for (int i = 0; i < values.length; i++) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("table[i] = values[i].").append(getter.getSimpleName()).append("();\n")
+                .append(INDENT).append(INDENT).append("}\n")
+                .append(INDENT).append(INDENT).append(table).append(" = table;\n")
+                .append(INDENT).append("}\n\n");
+        return table;
+    }
+
+    /**
+     * 伴生类中读取字段的表达式：非private字段直接读取，否则调用非private的get方法（record为组件访问方法），均不可用时返回null
+     */
+    private String fieldAccess(TypeElement owner, VariableElement field, String packageName) {
+        if (!isAccessible(owner, packageName)) {
+            return null;
+        }
+        Set<Modifier> modifiers = field.getModifiers();
+        if (!modifiers.contains(Modifier.PRIVATE)) {
+            return (modifiers.contains(Modifier.STATIC) ? owner.getQualifiedName().toString() : "owner") + "." + field.getSimpleName();
+        }
+        String getterName = owner.getKind() == ElementKind.RECORD ? field.getSimpleName().toString()
+                : "get" + Character.toUpperCase(field.getSimpleName().charAt(0)) + field.getSimpleName().toString().substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(getterName) && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE) && !method.getModifiers().contains(Modifier.STATIC)
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                return "owner." + getterName + "()";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 参数类型，泛型类使用通配符 如：demo.Page&lt;?&gt;
+     */
+    private static String typeName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getQualifiedName());
+        List<? extends TypeParameterElement> parameters = type.getTypeParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            name.append(i == 0 ? "<?" : ", ?");
+        }
+        return parameters.isEmpty() ? name.toString() : name.append('>').toString();
+    }
+
+    /**
+     * 枚举字段为null时返回值的源码字面量，nullDefault不合法时输出错误并返回null
+     */
+    private String nullDefaultLiteral(TypeMirror type, String nullDefault, Element annotated) {
+        Object value = EnumDescSupport.nullDefault(processingEnv, type, nullDefault, annotated);
+        if (value == EnumDescSupport.INVALID) {
+            return null;
+        }
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof String string) {
+            return stringLiteral(string);
+        }
+        if (value instanceof Character c) {
+            return c == '\0' ? "'\\0'" : "(char) " + (int) c;
+        }
+        if (value instanceof Byte) {
+            return "(byte) " + value;
+        }
+        if (value instanceof Short) {
+            return "(short) " + value;
+        }
+        if (value instanceof Long) {
+            return value + "L";
+        }
+        if (value instanceof Float f) {
+            return "Float.intBitsToFloat(" + Float.floatToRawIntBits(f) + ")";
+        }
+        if (value instanceof Double d) {
+            return "Double.longBitsToDouble(" + Double.doubleToRawLongBits(d) + "L)";
+        }
+        return String.valueOf(value);
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c < 0x20 || c == 0x7f) {
+                // 不使用\\u转义：javac在词法分析前处理unicode转义
+                out.append(String.format("\\%03o", (int) c));
+            } else {
+                out.append(c);
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    /**
+     * 伴生类中的一个属性方法
+     *
+     * @param owner     字段所在的类
+     * @param field     枚举字段
+     * @param attribute 首字母大写的属性名
+     * @param name      方法名 如：getStatusDesc
+     * @param getter    枚举中的get方法
+     * @param options   字段的@EnumDesc配置
+     */
+    record DescMethod(TypeElement owner, VariableElement field, String attribute, String name,
+                      ExecutableElement getter, EnumDescProcessor.DescOptions options) {
+    }
+
+}
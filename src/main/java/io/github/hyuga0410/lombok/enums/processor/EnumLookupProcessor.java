@@ -0,0 +1,749 @@
+package io.github.hyuga0410.lombok.enums.processor;
+
+import com.sun.source.tree.Tree;
+import com.sun.tools.javac.code.Flags;
+import com.sun.tools.javac.code.TypeTag;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.util.List;
+import com.sun.tools.javac.util.ListBuffer;
+import com.sun.tools.javac.util.Name;
+import io.github.hyuga0410.lombok.enums.annotations.EnumLookup;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.util.*;
+
+/**
+ * 枚举编码索引方法生成处理
+ * <p>
+ * 生成的代码（以int编码为例）：
+ * <pre>
+ * private static final int $CODE_MIN;
+ * private static final StatusEnum[] $CODE_DENSE;
+ * private static final int[] $CODE_KEYS;
+ * private static final StatusEnum[] $CODE_TABLE;
+ * private static final int $CODE_SHIFT;
+ * static { ...仅在类初始化时调用一次values()，按编码分布构建稠密数组或开放寻址表... }
+ * public static StatusEnum ofNullable(int code) { ... }
+ * public static StatusEnum of(int code) { ... }
+ * </pre>
+ * 指定parse时另外生成按属性值解析的方法，见{@link #handleParse}
+ *
+ * @since 2026/10/17
+ */
+public class EnumLookupProcessor extends AgentProcessor {
+
+    /**
+     * 黄金分割乘数（Fibonacci hashing）
+     */
+    private static final int INT_PHI = 0x9E3779B9;
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    /**
+     * 稠密数组允许的最大编码跨度 = 常量个数 * 4 + 64
+     */
+    private static final int DENSE_FACTOR_SHIFT = 2;
+    private static final int DENSE_SLACK = 64;
+
+    private static final String OF = "of";
+    private static final String OF_NULLABLE = "ofNullable";
+
+    /**
+     * 处理来自上一轮的类型元素的一组注释接口，并返回此处理器是否声称这些注释接口。
+     * <p>
+     * 如果返回true，则声明注释接口，后续处理器将不会被要求处理它们；
+     * <p>
+     * 如果返回false，注释接口将无人认领，随后的处理器可能会被要求处理它们。处理器可能始终返回相同的布尔值，或者可能根据自己选择的标准改变结果。
+     * <p>
+     * 如果处理器支持“x”，并且根元素没有注释，则输入集将是空的。处理器必须优雅地处理一组空的注释。
+     *
+     * @param annotations 请求处理的注释接口
+     * @param roundEnv    有关当前和上一轮的信息的环境
+     * @return boolean
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(EnumLookup.class);
+        diagnostics.elementsVisited(this, elements.size());
+        for (Element element : elements) {
+            if (element.getKind() != ElementKind.ENUM) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@EnumLookup仅支持在Enum类上使用", element);
+                continue;
+            }
+            long start = System.nanoTime();
+            handleEnum((TypeElement) element);
+            diagnostics.classProcessed(this, ((TypeElement) element).getQualifiedName(), System.nanoTime() - start);
+        }
+        return true;
+    }
+
+    /**
+     * 核心方法 枚举类的处理逻辑
+     */
+    private void handleEnum(TypeElement element) {
+        EnumLookup enumLookup = element.getAnnotation(EnumLookup.class);
+        JCTree.JCClassDecl classDecl = javacTrees.getTree(element);
+        // 生成的节点需定位在当前类中，否则javac的赋值分析无法跟踪static final字段
+        treeMaker.at(classDecl.pos);
+        Set<String> methodNames = new HashSet<>();
+        for (JCTree def : classDecl.defs) {
+            if (Tree.Kind.METHOD.equals(def.getKind())) {
+                methodNames.add(((JCTree.JCMethodDecl) def).name.toString());
+            }
+        }
+
+        ListBuffer<JCTree> statics = new ListBuffer<>();
+        ListBuffer<JCTree> methods = new ListBuffer<>();
+        if (!enumLookup.code().isEmpty()) {
+            handleCode(element, enumLookup.code(), classDecl, statics, methods);
+        }
+        for (String attribute : new LinkedHashSet<>(Arrays.asList(enumLookup.parse()))) {
+            handleParse(element, attribute, classDecl, methodNames, statics, methods);
+        }
+        if (statics.isEmpty() && methods.isEmpty()) {
+            return;
+        }
+        // 索引紧跟在枚举常量之后初始化，枚举中其他静态字段及静态代码块可以调用生成的方法
+        int constants = 0;
+        int index = 0;
+        for (JCTree def : classDecl.defs) {
+            index++;
+            if (def instanceof JCTree.JCVariableDecl variable && (variable.mods.flags & Flags.ENUM) != 0) {
+                constants = index;
+            }
+        }
+        ListBuffer<JCTree> defs = new ListBuffer<>();
+        index = 0;
+        for (JCTree def : classDecl.defs) {
+            if (index++ == constants) {
+                defs.appendList(statics);
+            }
+            defs.append(def);
+        }
+        if (constants == classDecl.defs.size()) {
+            defs.appendList(statics);
+        }
+        classDecl.defs = defs.appendList(methods).toList();
+    }
+
+    /**
+     * 编码索引 of、ofNullable
+     */
+    private void handleCode(TypeElement element, String code, JCTree.JCClassDecl classDecl, ListBuffer<JCTree> statics,
+                            ListBuffer<JCTree> methods) {
+        String getterName = String.format("get%s", upperCase(code));
+
+        EnumMetadata.Getter getter = enumMetadata(element).getGetter(names.fromString(getterName));
+        if (getter == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("%s中不存在public方法%s()", element.getSimpleName(), getterName), element);
+            return;
+        }
+
+        boolean isLong;
+        switch (getter.returnType().getKind()) {
+            case INT, SHORT, BYTE, CHAR -> isLong = false;
+            case LONG -> isLong = true;
+            default -> {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("%s()的返回值类型必须为int或long", getterName), getter.method());
+                return;
+            }
+        }
+
+        TypeKind keyKind = isLong ? TypeKind.LONG : TypeKind.INT;
+        Existing nullable = existing(element, OF_NULLABLE, keyKind);
+        Existing of = existing(element, OF, keyKind);
+        if (of == Existing.NONE && nullable == Existing.CONFLICT) {
+            // 生成的of(code)调用ofNullable(code)，会绑定到已有的其他重载
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("%s中未生成%s(%s)，依赖该方法的%s(%s)同样不生成",
+                            element.getSimpleName(), OF_NULLABLE, keyName(keyKind), OF, keyName(keyKind)), element);
+            of = Existing.CONFLICT;
+        }
+
+        if (nullable != Existing.NONE && of != Existing.NONE) {
+            // 两个方法均已存在时不生成索引
+            diagnostics.methodSkipped(this);
+            diagnostics.methodSkipped(this);
+            return;
+        }
+
+        LookupNames lookup = new LookupNames(classDecl.name, code, getterName, isLong);
+        statics.append(staticField(lookup.min, keyType(lookup)));
+        statics.append(staticField(lookup.dense, enumArrayType(lookup)));
+        statics.append(staticField(lookup.keys, treeMaker.TypeArray(keyType(lookup))));
+        statics.append(staticField(lookup.table, enumArrayType(lookup)));
+        statics.append(staticField(lookup.shift, treeMaker.TypeIdent(TypeTag.INT)));
+        statics.append(staticInitializer(lookup));
+        if (nullable == Existing.NONE) {
+            methods.append(ofNullableMethod(lookup));
+            diagnostics.methodGenerated(this);
+        } else {
+            diagnostics.methodSkipped(this);
+        }
+        if (of == Existing.NONE) {
+            methods.append(ofMethod(lookup, element.getQualifiedName().toString()));
+            diagnostics.methodGenerated(this);
+        } else {
+            diagnostics.methodSkipped(this);
+        }
+    }
+
+    /**
+     * 枚举中已有的同名方法
+     * <p>
+     * 只有一个编码类型参数的同名方法视为已存在；只有一个其他基本类型或包装类型参数的同名方法（如{@code of(long)}、{@code of(Integer)}），
+     * 生成的重载会改变已有调用绑定的方法，给出警告并不生成；其他参数的同名方法（如{@code of(String)}）不影响生成
+     */
+    private Existing existing(TypeElement element, String name, TypeKind keyKind) {
+        Existing existing = Existing.NONE;
+        for (ExecutableElement method : ElementFilter.methodsIn(element.getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals(name) || method.getParameters().size() != 1) {
+                continue;
+            }
+            TypeMirror type = method.getParameters().get(0).asType();
+            if (type.getKind() == keyKind) {
+                return Existing.SAME;
+            }
+            if (type.getKind().isPrimitive() || isBoxed(type)) {
+                existing = Existing.CONFLICT;
+            }
+        }
+        if (existing == Existing.CONFLICT) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("%s中已存在参数类型不同的%s方法，生成%s(%s)会改变已有调用绑定的方法，未生成",
+                            element.getSimpleName(), name, name, keyName(keyKind)), element);
+        }
+        return existing;
+    }
+
+    private static String keyName(TypeKind keyKind) {
+        return keyKind.name().toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isBoxed(TypeMirror type) {
+        try {
+            processingEnv.getTypeUtils().unboxedType(type);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 属性值解析 parseDesc(CharSequence)、parseDesc(CharSequence, int, int)
+     * <pre>
+     * private static final String[] $DESC_PARSE_KEYS;
+     * private static final int[] $DESC_PARSE_HASHES;
+     * private static final StatusEnum[] $DESC_PARSE_TABLE;
+     * private static final int $DESC_PARSE_SHIFT;
+     * static { ...开放寻址表，哈希与String.hashCode()一致... }
+     * public static StatusEnum parseDesc(CharSequence text, int start, int end) { ...逐字符计算哈希，命中后逐字符比较... }
+     * public static StatusEnum parseDesc(CharSequence text) { ... }
+     * </pre>
+     */
+    private void handleParse(TypeElement element, String attribute, JCTree.JCClassDecl classDecl, Set<String> methodNames,
+                             ListBuffer<JCTree> statics, ListBuffer<JCTree> methods) {
+        String getterName = String.format("get%s", upperCase(attribute));
+        EnumMetadata.Getter getter = enumMetadata(element).getGetter(names.fromString(getterName));
+        if (getter == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("%s中不存在public方法%s()", element.getSimpleName(), getterName), element);
+            return;
+        }
+        if (!getter.returnType().tsym.getQualifiedName().contentEquals(String.class.getName())) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("@EnumLookup的parse只支持返回值为String的方法，%s()的返回值类型为%s", getterName, getter.returnType()),
+                    getter.method());
+            return;
+        }
+        String methodName = "parse" + upperCase(attribute);
+        if (methodNames.contains(methodName)) {
+            diagnostics.methodSkipped(this);
+            return;
+        }
+
+        ParseNames parse = new ParseNames(classDecl.name, attribute, getterName);
+        statics.append(staticField(parse.keys, treeMaker.TypeArray(select("java.lang.String"))));
+        statics.append(staticField(parse.hashes, treeMaker.TypeArray(treeMaker.TypeIdent(TypeTag.INT))));
+        statics.append(staticField(parse.table, treeMaker.TypeArray(treeMaker.Ident(parse.enumName))));
+        statics.append(staticField(parse.shift, treeMaker.TypeIdent(TypeTag.INT)));
+        statics.append(parseInitializer(parse));
+        methods.append(parseRangeMethod(parse, methodName));
+        methods.append(parseMethod(parse, methodName));
+        diagnostics.methodGenerated(this);
+        diagnostics.methodGenerated(this);
+    }
+
+    /**
+     * 生成静态代码块 构建属性值的开放寻址表，同时保存属性值及其哈希，探测时先比较哈希
+     */
+    private JCTree.JCBlock parseInitializer(ParseNames parse) {
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        JCTree.JCArrayTypeTree enumArrayType = treeMaker.TypeArray(treeMaker.Ident(parse.enumName));
+        statements.append(localVar("values", enumArrayType, treeMaker.Apply(List.nil(), ident("values"), List.nil())));
+        // int capacity = Integer.highestOneBit(values.length << 1 | 1) << 1; int shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        statements.append(localVar("capacity", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Binary(JCTree.Tag.SL,
+                treeMaker.Apply(List.nil(), select("java.lang.Integer.highestOneBit"), List.of(
+                        treeMaker.Binary(JCTree.Tag.BITOR,
+                                treeMaker.Binary(JCTree.Tag.SL, select("values.length"), treeMaker.Literal(1)),
+                                treeMaker.Literal(1)))),
+                treeMaker.Literal(1))));
+        statements.append(localVar("shift", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Binary(JCTree.Tag.MINUS,
+                treeMaker.Literal(Integer.SIZE),
+                treeMaker.Apply(List.nil(), select("java.lang.Integer.numberOfTrailingZeros"), List.of(ident("capacity"))))));
+        statements.append(localVar("keys", treeMaker.TypeArray(select("java.lang.String")),
+                treeMaker.NewArray(select("java.lang.String"), List.of(ident("capacity")), null)));
+        statements.append(localVar("hashes", treeMaker.TypeArray(treeMaker.TypeIdent(TypeTag.INT)),
+                treeMaker.NewArray(treeMaker.TypeIdent(TypeTag.INT), List.of(ident("capacity")), null)));
+        statements.append(localVar("table", treeMaker.TypeArray(treeMaker.Ident(parse.enumName)),
+                treeMaker.NewArray(treeMaker.Ident(parse.enumName), List.of(ident("capacity")), null)));
+
+        // for (E e : values) {
+        //     String k = e.getDesc();
+        //     if (k != null) {
+        //         int h = k.hashCode();
+        //         int s = h * PHI >>> shift;
+        //         while (table[s] != null && !(hashes[s] == h && keys[s].equals(k))) s = s + 1 & capacity - 1;
+        //         if (table[s] == null) { keys[s] = k; hashes[s] = h; table[s] = e; }
+        //     }
+        // }
+        JCTree.JCExpression same = treeMaker.Binary(JCTree.Tag.AND,
+                treeMaker.Binary(JCTree.Tag.EQ, treeMaker.Indexed(ident("hashes"), ident("s")), ident("h")),
+                treeMaker.Apply(List.nil(), treeMaker.Select(treeMaker.Indexed(ident("keys"), ident("s")), names.fromString("equals")),
+                        List.of(ident("k"))));
+        JCTree.JCExpression occupied = treeMaker.Binary(JCTree.Tag.AND,
+                treeMaker.Binary(JCTree.Tag.NE, treeMaker.Indexed(ident("table"), ident("s")), nullLiteral()),
+                treeMaker.Unary(JCTree.Tag.NOT, treeMaker.Parens(same)));
+        statements.append(treeMaker.ForeachLoop(
+                treeMaker.VarDef(treeMaker.Modifiers(0), names.fromString("e"), treeMaker.Ident(parse.enumName), null),
+                ident("values"),
+                treeMaker.Block(0, List.of(
+                        localVar("k", select("java.lang.String"), treeMaker.Apply(List.nil(), select("e." + parse.getter), List.nil())),
+                        treeMaker.If(treeMaker.Binary(JCTree.Tag.NE, ident("k"), nullLiteral()), treeMaker.Block(0, List.of(
+                                localVar("h", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Apply(List.nil(), select("k.hashCode"), List.nil())),
+                                localVar("s", treeMaker.TypeIdent(TypeTag.INT), hashSlot(ident("h"), ident("shift"))),
+                                treeMaker.WhileLoop(occupied, assign(ident("s"), nextSlot(ident("capacity")))),
+                                treeMaker.If(isNull(treeMaker.Indexed(ident("table"), ident("s"))), treeMaker.Block(0, List.of(
+                                        assign(treeMaker.Indexed(ident("keys"), ident("s")), ident("k")),
+                                        assign(treeMaker.Indexed(ident("hashes"), ident("s")), ident("h")),
+                                        assign(treeMaker.Indexed(ident("table"), ident("s")), ident("e"))
+                                )), null)
+                        )), null)
+                ))));
+
+        statements.append(assign(treeMaker.Ident(parse.keys), ident("keys")));
+        statements.append(assign(treeMaker.Ident(parse.hashes), ident("hashes")));
+        statements.append(assign(treeMaker.Ident(parse.table), ident("table")));
+        statements.append(assign(treeMaker.Ident(parse.shift), ident("shift")));
+        return treeMaker.Block(Flags.STATIC, statements.toList());
+    }
+
+    /**
+     * public static E parseDesc(CharSequence text, int start, int end)
+     * <pre>
+     * java.util.Objects.checkFromToIndex(start, end, text.length());
+     * int h = 0;
+     * for (int i = start; i &lt; end; i++) h = 31 * h + text.charAt(i);
+     * String[] keys = $DESC_PARSE_KEYS; int[] hashes = $DESC_PARSE_HASHES; E[] table = $DESC_PARSE_TABLE;
+     * int s = h * PHI >>> $DESC_PARSE_SHIFT;
+     * E e;
+     * while ((e = table[s]) != null) {
+     *     if (hashes[s] == h) {
+     *         String k = keys[s];
+     *         int n = k.length();
+     *         if (n == end - start) {
+     *             int i = 0;
+     *             while (i &lt; n &amp;&amp; k.charAt(i) == text.charAt(start + i)) i++;
+     *             if (i == n) return e;
+     *         }
+     *     }
+     *     s = s + 1 &amp; table.length - 1;
+     * }
+     * return null;
+     * </pre>
+     */
+    private JCTree.JCMethodDecl parseRangeMethod(ParseNames parse, String methodName) {
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        statements.append(treeMaker.Exec(treeMaker.Apply(List.nil(), select("java.util.Objects.checkFromToIndex"),
+                List.of(ident("start"), ident("end"), treeMaker.Apply(List.nil(), select("text.length"), List.nil())))));
+        statements.append(localVar("h", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0)));
+        statements.append(treeMaker.ForLoop(
+                List.of(localVar("i", treeMaker.TypeIdent(TypeTag.INT), ident("start"))),
+                treeMaker.Binary(JCTree.Tag.LT, ident("i"), ident("end")),
+                List.of(treeMaker.Exec(treeMaker.Unary(JCTree.Tag.POSTINC, ident("i")))),
+                assign(ident("h"), treeMaker.Binary(JCTree.Tag.PLUS,
+                        treeMaker.Binary(JCTree.Tag.MUL, treeMaker.Literal(31), ident("h")),
+                        treeMaker.Apply(List.nil(), select("text.charAt"), List.of(ident("i")))))));
+        statements.append(localVar("keys", treeMaker.TypeArray(select("java.lang.String")), treeMaker.Ident(parse.keys)));
+        statements.append(localVar("hashes", treeMaker.TypeArray(treeMaker.TypeIdent(TypeTag.INT)), treeMaker.Ident(parse.hashes)));
+        statements.append(localVar("table", treeMaker.TypeArray(treeMaker.Ident(parse.enumName)), treeMaker.Ident(parse.table)));
+        statements.append(localVar("s", treeMaker.TypeIdent(TypeTag.INT), hashSlot(ident("h"), treeMaker.Ident(parse.shift))));
+        statements.append(localVar("e", treeMaker.Ident(parse.enumName), null));
+
+        JCTree.JCExpression matches = treeMaker.Binary(JCTree.Tag.AND,
+                treeMaker.Binary(JCTree.Tag.LT, ident("i"), ident("n")),
+                treeMaker.Binary(JCTree.Tag.EQ,
+                        treeMaker.Apply(List.nil(), select("k.charAt"), List.of(ident("i"))),
+                        treeMaker.Apply(List.nil(), select("text.charAt"),
+                                List.of(treeMaker.Binary(JCTree.Tag.PLUS, ident("start"), ident("i"))))));
+        JCTree.JCStatement compare = treeMaker.If(treeMaker.Binary(JCTree.Tag.EQ, treeMaker.Indexed(ident("hashes"), ident("s")), ident("h")),
+                treeMaker.Block(0, List.of(
+                        localVar("k", select("java.lang.String"), treeMaker.Indexed(ident("keys"), ident("s"))),
+                        localVar("n", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Apply(List.nil(), select("k.length"), List.nil())),
+                        treeMaker.If(treeMaker.Binary(JCTree.Tag.EQ, ident("n"),
+                                treeMaker.Binary(JCTree.Tag.MINUS, ident("end"), ident("start"))), treeMaker.Block(0, List.of(
+                                localVar("i", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Literal(0)),
+                                treeMaker.WhileLoop(matches, treeMaker.Exec(treeMaker.Unary(JCTree.Tag.POSTINC, ident("i")))),
+                                treeMaker.If(treeMaker.Binary(JCTree.Tag.EQ, ident("i"), ident("n")), treeMaker.Return(ident("e")), null)
+                        )), null)
+                )), null);
+        JCTree.JCExpression probe = treeMaker.Binary(JCTree.Tag.NE,
+                treeMaker.Parens(treeMaker.Assign(ident("e"), treeMaker.Indexed(ident("table"), ident("s")))), nullLiteral());
+        statements.append(treeMaker.WhileLoop(probe, treeMaker.Block(0, List.of(compare, assign(ident("s"), nextSlot(select("table.length")))))));
+        statements.append(treeMaker.Return(nullLiteral()));
+
+        return treeMaker.MethodDef(
+                treeMaker.Modifiers(Flags.PUBLIC | Flags.STATIC),
+                names.fromString(methodName),
+                treeMaker.Ident(parse.enumName),
+                List.nil(),
+                List.of(parameter("text", select("java.lang.CharSequence")),
+                        parameter("start", treeMaker.TypeIdent(TypeTag.INT)),
+                        parameter("end", treeMaker.TypeIdent(TypeTag.INT))),
+                List.nil(),
+                treeMaker.Block(0, statements.toList()),
+                null
+        );
+    }
+
+    /**
+     * public static E parseDesc(CharSequence text) { return text == null ? null : parseDesc(text, 0, text.length()); }
+     */
+    private JCTree.JCMethodDecl parseMethod(ParseNames parse, String methodName) {
+        JCTree.JCExpression value = treeMaker.Conditional(isNull(ident("text")), nullLiteral(),
+                treeMaker.Apply(List.nil(), ident(methodName), List.of(ident("text"), treeMaker.Literal(0),
+                        treeMaker.Apply(List.nil(), select("text.length"), List.nil()))));
+        return treeMaker.MethodDef(
+                treeMaker.Modifiers(Flags.PUBLIC | Flags.STATIC),
+                names.fromString(methodName),
+                treeMaker.Ident(parse.enumName),
+                List.nil(),
+                List.of(parameter("text", select("java.lang.CharSequence"))),
+                List.nil(),
+                treeMaker.Block(0, List.of(treeMaker.Return(value))),
+                null
+        );
+    }
+
+    private JCTree.JCVariableDecl parameter(String name, JCTree.JCExpression type) {
+        return treeMaker.VarDef(treeMaker.Modifiers(Flags.PARAMETER), names.fromString(name), type, null);
+    }
+
+    /**
+     * int哈希的初始槽位 h * PHI >>> shift
+     */
+    private JCTree.JCExpression hashSlot(JCTree.JCExpression hash, JCTree.JCExpression shift) {
+        return treeMaker.Binary(JCTree.Tag.USR, treeMaker.Binary(JCTree.Tag.MUL, hash, treeMaker.Literal(INT_PHI)), shift);
+    }
+
+    /**
+     * 生成静态代码块 构建索引
+     */
+    private JCTree.JCBlock staticInitializer(LookupNames lookup) {
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        // E[] values = values();
+        statements.append(localVar("values", enumArrayType(lookup), treeMaker.Apply(List.nil(), ident("values"), List.nil())));
+        // long min = Long.MAX_VALUE; long max = Long.MIN_VALUE;
+        statements.append(localVar("min", longType(), treeMaker.Literal(Long.MAX_VALUE)));
+        statements.append(localVar("max", longType(), treeMaker.Literal(Long.MIN_VALUE)));
+        // for (E e : values) { long c = e.getCode(); if (c < min) min = c; if (c > max) max = c; }
+        statements.append(foreachValue(lookup, List.of(
+                localVar("c", longType(), codeOf(lookup, "e")),
+                treeMaker.If(treeMaker.Binary(JCTree.Tag.LT, ident("c"), ident("min")), assign(ident("min"), ident("c")), null),
+                treeMaker.If(treeMaker.Binary(JCTree.Tag.GT, ident("c"), ident("max")), assign(ident("max"), ident("c")), null)
+        )));
+
+        // max - min：long编码溢出时为负数，按稀疏处理
+        JCTree.JCExpression span = treeMaker.Binary(JCTree.Tag.MINUS, ident("max"), ident("min"));
+        JCTree.JCExpression limit = treeMaker.Binary(JCTree.Tag.PLUS,
+                treeMaker.Binary(JCTree.Tag.SL, select("values.length"), treeMaker.Literal(DENSE_FACTOR_SHIFT)),
+                treeMaker.Literal(DENSE_SLACK));
+        JCTree.JCExpression isDense = treeMaker.Binary(JCTree.Tag.AND,
+                treeMaker.Binary(JCTree.Tag.AND,
+                        treeMaker.Binary(JCTree.Tag.GT, select("values.length"), treeMaker.Literal(0)),
+                        treeMaker.Binary(JCTree.Tag.GE, span, treeMaker.Literal(0L))),
+                treeMaker.Binary(JCTree.Tag.LT, treeMaker.Binary(JCTree.Tag.MINUS, ident("max"), ident("min")), limit));
+
+        statements.append(treeMaker.If(isDense, denseBranch(lookup), sparseBranch(lookup)));
+        return treeMaker.Block(Flags.STATIC, statements.toList());
+    }
+
+    /**
+     * 稠密数组：下标 = 编码 - 最小编码，编码重复时保留声明在前的常量
+     */
+    private JCTree.JCBlock denseBranch(LookupNames lookup) {
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        // E[] dense = new E[(int) (max - min + 1)];
+        JCTree.JCExpression size = treeMaker.TypeCast(treeMaker.TypeIdent(TypeTag.INT), treeMaker.Parens(
+                treeMaker.Binary(JCTree.Tag.PLUS, treeMaker.Binary(JCTree.Tag.MINUS, ident("max"), ident("min")), treeMaker.Literal(1))));
+        statements.append(localVar("dense", enumArrayType(lookup),
+                treeMaker.NewArray(treeMaker.Ident(lookup.enumName), List.of(size), null)));
+        // for (E e : values) { int i = (int) (e.getCode() - min); if (dense[i] == null) dense[i] = e; }
+        JCTree.JCExpression index = treeMaker.TypeCast(treeMaker.TypeIdent(TypeTag.INT), treeMaker.Parens(
+                treeMaker.Binary(JCTree.Tag.MINUS, codeOf(lookup, "e"), ident("min"))));
+        statements.append(foreachValue(lookup, List.of(
+                localVar("i", treeMaker.TypeIdent(TypeTag.INT), index),
+                treeMaker.If(isNull(treeMaker.Indexed(ident("dense"), ident("i"))),
+                        assign(treeMaker.Indexed(ident("dense"), ident("i")), ident("e")), null)
+        )));
+        statements.append(assign(treeMaker.Ident(lookup.min),
+                lookup.isLong ? ident("min") : treeMaker.TypeCast(keyType(lookup), ident("min"))));
+        statements.append(assign(treeMaker.Ident(lookup.dense), ident("dense")));
+        statements.append(assign(treeMaker.Ident(lookup.keys), nullLiteral()));
+        statements.append(assign(treeMaker.Ident(lookup.table), nullLiteral()));
+        statements.append(assign(treeMaker.Ident(lookup.shift), treeMaker.Literal(0)));
+        return treeMaker.Block(0, statements.toList());
+    }
+
+    /**
+     * 开放寻址表：容量为不小于常量个数两倍的2的幂，线性探测
+     */
+    private JCTree.JCBlock sparseBranch(LookupNames lookup) {
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        // int capacity = Integer.highestOneBit(values.length << 1 | 1) << 1;
+        JCTree.JCExpression capacity = treeMaker.Binary(JCTree.Tag.SL,
+                treeMaker.Apply(List.nil(), select("java.lang.Integer.highestOneBit"), List.of(
+                        treeMaker.Binary(JCTree.Tag.BITOR,
+                                treeMaker.Binary(JCTree.Tag.SL, select("values.length"), treeMaker.Literal(1)),
+                                treeMaker.Literal(1)))),
+                treeMaker.Literal(1));
+        statements.append(localVar("capacity", treeMaker.TypeIdent(TypeTag.INT), capacity));
+        // int shift = 32(64) - Integer.numberOfTrailingZeros(capacity);
+        statements.append(localVar("shift", treeMaker.TypeIdent(TypeTag.INT), treeMaker.Binary(JCTree.Tag.MINUS,
+                treeMaker.Literal(lookup.isLong ? Long.SIZE : Integer.SIZE),
+                treeMaker.Apply(List.nil(), select("java.lang.Integer.numberOfTrailingZeros"), List.of(ident("capacity"))))));
+        statements.append(localVar("keys", treeMaker.TypeArray(keyType(lookup)),
+                treeMaker.NewArray(keyType(lookup), List.of(ident("capacity")), null)));
+        statements.append(localVar("table", enumArrayType(lookup),
+                treeMaker.NewArray(treeMaker.Ident(lookup.enumName), List.of(ident("capacity")), null)));
+
+        // for (E e : values) {
+        //     int k = e.getCode();
+        //     int s = k * PHI >>> shift;
+        //     while (table[s] != null && keys[s] != k) s = s + 1 & capacity - 1;
+        //     if (table[s] == null) { keys[s] = k; table[s] = e; }
+        // }
+        JCTree.JCExpression occupied = treeMaker.Binary(JCTree.Tag.AND,
+                treeMaker.Binary(JCTree.Tag.NE, treeMaker.Indexed(ident("table"), ident("s")), nullLiteral()),
+                treeMaker.Binary(JCTree.Tag.NE, treeMaker.Indexed(ident("keys"), ident("s")), ident("k")));
+        statements.append(foreachValue(lookup, List.of(
+                localVar("k", keyType(lookup), codeOf(lookup, "e")),
+                localVar("s", treeMaker.TypeIdent(TypeTag.INT), slot(lookup, ident("k"), ident("shift"))),
+                treeMaker.WhileLoop(occupied, assign(ident("s"), nextSlot(ident("capacity")))),
+                treeMaker.If(isNull(treeMaker.Indexed(ident("table"), ident("s"))), treeMaker.Block(0, List.of(
+                        assign(treeMaker.Indexed(ident("keys"), ident("s")), ident("k")),
+                        assign(treeMaker.Indexed(ident("table"), ident("s")), ident("e"))
+                )), null)
+        )));
+
+        statements.append(assign(treeMaker.Ident(lookup.min), lookup.isLong ? treeMaker.Literal(0L) : treeMaker.Literal(0)));
+        statements.append(assign(treeMaker.Ident(lookup.dense), nullLiteral()));
+        statements.append(assign(treeMaker.Ident(lookup.keys), ident("keys")));
+        statements.append(assign(treeMaker.Ident(lookup.table), ident("table")));
+        statements.append(assign(treeMaker.Ident(lookup.shift), ident("shift")));
+        return treeMaker.Block(0, statements.toList());
+    }
+
+    /**
+     * public static E ofNullable(int code)
+     */
+    private JCTree.JCMethodDecl ofNullableMethod(LookupNames lookup) {
+        ListBuffer<JCTree.JCStatement> statements = new ListBuffer<>();
+        // E[] dense = $CODE_DENSE;
+        statements.append(localVar("dense", enumArrayType(lookup), treeMaker.Ident(lookup.dense)));
+        // if (dense != null) { int i = code - $CODE_MIN; return i >= 0 && i < dense.length ? dense[(int) i] : null; }
+        JCTree.JCExpression inRange = treeMaker.Binary(JCTree.Tag.AND,
+                treeMaker.Binary(JCTree.Tag.GE, ident("i"), lookup.isLong ? treeMaker.Literal(0L) : treeMaker.Literal(0)),
+                treeMaker.Binary(JCTree.Tag.LT, ident("i"), select("dense.length")));
+        JCTree.JCExpression element = treeMaker.Indexed(ident("dense"),
+                lookup.isLong ? treeMaker.TypeCast(treeMaker.TypeIdent(TypeTag.INT), ident("i")) : ident("i"));
+        statements.append(treeMaker.If(treeMaker.Binary(JCTree.Tag.NE, ident("dense"), nullLiteral()), treeMaker.Block(0, List.of(
+                localVar("i", keyType(lookup), treeMaker.Binary(JCTree.Tag.MINUS, ident(lookup.code), treeMaker.Ident(lookup.min))),
+                treeMaker.Return(treeMaker.Conditional(inRange, element, nullLiteral()))
+        )), null));
+
+        // E[] table = $CODE_TABLE; int[] keys = $CODE_KEYS; int s = code * PHI >>> $CODE_SHIFT; E e;
+        statements.append(localVar("table", enumArrayType(lookup), treeMaker.Ident(lookup.table)));
+        statements.append(localVar("keys", treeMaker.TypeArray(keyType(lookup)), treeMaker.Ident(lookup.keys)));
+        statements.append(localVar("s", treeMaker.TypeIdent(TypeTag.INT), slot(lookup, ident(lookup.code), treeMaker.Ident(lookup.shift))));
+        statements.append(localVar("e", treeMaker.Ident(lookup.enumName), null));
+        // while ((e = table[s]) != null) { if (keys[s] == code) return e; s = s + 1 & table.length - 1; }
+        JCTree.JCExpression probe = treeMaker.Binary(JCTree.Tag.NE,
+                treeMaker.Parens(treeMaker.Assign(ident("e"), treeMaker.Indexed(ident("table"), ident("s")))), nullLiteral());
+        statements.append(treeMaker.WhileLoop(probe, treeMaker.Block(0, List.of(
+                treeMaker.If(treeMaker.Binary(JCTree.Tag.EQ, treeMaker.Indexed(ident("keys"), ident("s")), ident(lookup.code)),
+                        treeMaker.Return(ident("e")), null),
+                assign(ident("s"), nextSlot(select("table.length")))
+        ))));
+        statements.append(treeMaker.Return(nullLiteral()));
+
+        return staticMethod(lookup, OF_NULLABLE, statements.toList());
+    }
+
+    /**
+     * public static E of(int code)
+     */
+    private JCTree.JCMethodDecl ofMethod(LookupNames lookup, String qualifiedName) {
+        // E e = ofNullable(code);
+        JCTree.JCStatement value = localVar("e", treeMaker.Ident(lookup.enumName),
+                treeMaker.Apply(List.nil(), ident(OF_NULLABLE), List.of(ident(lookup.code))));
+        // if (e == null) throw new IllegalArgumentException("No enum constant xxx with code " + code);
+        JCTree.JCExpression message = treeMaker.Binary(JCTree.Tag.PLUS,
+                treeMaker.Literal(String.format("No enum constant %s with %s ", qualifiedName, lookup.code)), ident(lookup.code));
+        JCTree.JCStatement check = treeMaker.If(isNull(ident("e")), treeMaker.Throw(treeMaker.NewClass(null, List.nil(),
+                select("java.lang.IllegalArgumentException"), List.of(message), null)), null);
+        return staticMethod(lookup, OF, List.of(value, check, treeMaker.Return(ident("e"))));
+    }
+
+    private JCTree.JCMethodDecl staticMethod(LookupNames lookup, String name, List<JCTree.JCStatement> statements) {
+        JCTree.JCVariableDecl parameter = treeMaker.VarDef(treeMaker.Modifiers(Flags.PARAMETER),
+                names.fromString(lookup.code), keyType(lookup), null);
+        return treeMaker.MethodDef(
+                treeMaker.Modifiers(Flags.PUBLIC | Flags.STATIC),
+                names.fromString(name),
+                treeMaker.Ident(lookup.enumName),
+                List.nil(),
+                List.of(parameter),
+                List.nil(),
+                treeMaker.Block(0, statements),
+                null
+        );
+    }
+
+    /**
+     * 初始槽位 (int)(k * PHI >>> shift)
+     */
+    private JCTree.JCExpression slot(LookupNames lookup, JCTree.JCExpression key, JCTree.JCExpression shift) {
+        JCTree.JCExpression phi = lookup.isLong ? treeMaker.Literal(LONG_PHI) : treeMaker.Literal(INT_PHI);
+        JCTree.JCExpression hash = treeMaker.Binary(JCTree.Tag.USR, treeMaker.Binary(JCTree.Tag.MUL, key, phi), shift);
+        return lookup.isLong ? treeMaker.TypeCast(treeMaker.TypeIdent(TypeTag.INT), treeMaker.Parens(hash)) : hash;
+    }
+
+    /**
+     * 线性探测下一个槽位 s + 1 & capacity - 1
+     */
+    private JCTree.JCExpression nextSlot(JCTree.JCExpression capacity) {
+        return treeMaker.Binary(JCTree.Tag.BITAND,
+                treeMaker.Binary(JCTree.Tag.PLUS, ident("s"), treeMaker.Literal(1)),
+                treeMaker.Binary(JCTree.Tag.MINUS, capacity, treeMaker.Literal(1)));
+    }
+
+    private JCTree.JCEnhancedForLoop foreachValue(LookupNames lookup, List<JCTree.JCStatement> body) {
+        return treeMaker.ForeachLoop(
+                treeMaker.VarDef(treeMaker.Modifiers(0), names.fromString("e"), treeMaker.Ident(lookup.enumName), null),
+                ident("values"),
+                treeMaker.Block(0, body));
+    }
+
+    private JCTree.JCMethodInvocation codeOf(LookupNames lookup, String variable) {
+        return treeMaker.Apply(List.nil(), select(String.format("%s.%s", variable, lookup.getter)), List.nil());
+    }
+
+    private JCTree.JCExpression keyType(LookupNames lookup) {
+        return treeMaker.TypeIdent(lookup.isLong ? TypeTag.LONG : TypeTag.INT);
+    }
+
+    private JCTree.JCExpression longType() {
+        return treeMaker.TypeIdent(TypeTag.LONG);
+    }
+
+    private JCTree.JCArrayTypeTree enumArrayType(LookupNames lookup) {
+        return treeMaker.TypeArray(treeMaker.Ident(lookup.enumName));
+    }
+
+    @Override
+    protected Set<String> getAnnotationTypes() {
+        Set<String> annotationTypes = new HashSet<>();
+        annotationTypes.add(EnumLookup.class.getName());
+        return annotationTypes;
+    }
+
+    /**
+     * 单个属性值解析生成代码时使用的名称
+     */
+    private class ParseNames {
+
+        private final Name enumName;
+        private final String getter;
+        private final Name keys;
+        private final Name hashes;
+        private final Name table;
+        private final Name shift;
+
+        private ParseNames(Name enumName, String attribute, String getter) {
+            this.enumName = enumName;
+            this.getter = getter;
+            String prefix = "$" + attribute.toUpperCase(Locale.ROOT) + "_PARSE";
+            this.keys = names.fromString(prefix + "_KEYS");
+            this.hashes = names.fromString(prefix + "_HASHES");
+            this.table = names.fromString(prefix + "_TABLE");
+            this.shift = names.fromString(prefix + "_SHIFT");
+        }
+
+    }
+
+    /**
+     * 单个枚举生成代码时使用的名称
+     */
+    private class LookupNames {
+
+        private final Name enumName;
+        private final String code;
+        private final String getter;
+        private final boolean isLong;
+        private final Name min;
+        private final Name dense;
+        private final Name keys;
+        private final Name table;
+        private final Name shift;
+
+        private LookupNames(Name enumName, String code, String getter, boolean isLong) {
+            this.enumName = enumName;
+            this.code = code;
+            this.getter = getter;
+            this.isLong = isLong;
+            String prefix = "$" + code.toUpperCase(Locale.ROOT);
+            this.min = names.fromString(prefix + "_MIN");
+            this.dense = names.fromString(prefix + "_DENSE");
+            this.keys = names.fromString(prefix + "_KEYS");
+            this.table = names.fromString(prefix + "_TABLE");
+            this.shift = names.fromString(prefix + "_SHIFT");
+        }
+
+    }
+
+    /**
+     * 枚举中已有的同名方法
+     */
+    private enum Existing {
+        /**
+         * 不存在，生成
+         */
+        NONE,
+        /**
+         * 已存在相同参数的方法，不生成
+         */
+        SAME,
+        /**
+         * 已存在会改变调用绑定的重载，不生成并给出警告
+         */
+        CONFLICT
+    }
+
+}
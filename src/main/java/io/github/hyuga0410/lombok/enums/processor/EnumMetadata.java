@@ -0,0 +1,150 @@
+package io.github.hyuga0410.lombok.enums.processor;
+
+import com.sun.source.tree.Tree;
+import com.sun.tools.javac.api.JavacTrees;
+import com.sun.tools.javac.code.Flags;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeInfo;
+import com.sun.tools.javac.util.Name;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import java.util.*;
+
+/**
+ * 枚举元数据
+ * <p>
+ * 记录枚举的常量以及public、非static、无参数的方法（返回值类型、是否为常量），
+ * 每次编译按枚举的TypeSymbol缓存一次（见{@link AgentProcessor#enumMetadata(TypeElement)}），
+ * 引用同一枚举的字段只需一次查找，解析工作量只与枚举数量相关，与字段数量无关。
+ *
+ * @since 2026/10/17
+ */
+public class EnumMetadata {
+
+    private final TypeElement type;
+    private final List<VariableElement> constants;
+    private final Map<Name, Getter> getters;
+    private final List<Getter> declaredGetters;
+    private final boolean source;
+
+    private EnumMetadata(TypeElement type, List<VariableElement> constants, Map<Name, Getter> getters,
+                         List<Getter> declaredGetters, boolean source) {
+        this.type = type;
+        this.constants = constants;
+        this.getters = getters;
+        this.declaredGetters = declaredGetters;
+        this.source = source;
+    }
+
+    /**
+     * 解析枚举
+     */
+    static EnumMetadata resolve(TypeElement type, ProcessingEnvironment processingEnv, JavacTrees javacTrees) {
+        List<VariableElement> constants = new ArrayList<>();
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.ENUM_CONSTANT) {
+                constants.add((VariableElement) element);
+            }
+        }
+
+        Map<Name, Getter> getters = new HashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!method.getParameters().isEmpty() || !modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            Symbol.MethodSymbol symbol = (Symbol.MethodSymbol) method;
+            getters.putIfAbsent(symbol.name, new Getter(symbol.name, (Type) method.getReturnType(), isConstant(symbol, type, javacTrees), method));
+        }
+
+        List<Getter> declaredGetters = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            Getter getter = getters.get(((Symbol.MethodSymbol) method).name);
+            if (getter != null && getter.method() == method) {
+                declaredGetters.add(getter);
+            }
+        }
+        return new EnumMetadata(type, Collections.unmodifiableList(constants), getters,
+                Collections.unmodifiableList(declaredGetters), javacTrees.getTree(type) != null);
+    }
+
+    /**
+     * 是否为常量：方法体只返回本枚举的final实例字段，即每个枚举常量的返回值固定
+     * <p>
+     * 只能判断本次编译的源码中声明的方法，类路径中的枚举均按非常量处理
+     */
+    private static boolean isConstant(Symbol.MethodSymbol method, TypeElement type, JavacTrees javacTrees) {
+        if (method.owner != type) {
+            return false;
+        }
+        JCTree.JCMethodDecl methodDecl = javacTrees.getTree(method);
+        if (methodDecl == null || methodDecl.body == null || methodDecl.body.stats.size() != 1
+                || methodDecl.body.stats.head.getKind() != Tree.Kind.RETURN) {
+            return false;
+        }
+        JCTree.JCExpression expression = TreeInfo.skipParens(((JCTree.JCReturn) methodDecl.body.stats.head).expr);
+        Name field;
+        if (expression instanceof JCTree.JCIdent ident) {
+            field = ident.name;
+        } else if (expression instanceof JCTree.JCFieldAccess access && access.selected instanceof JCTree.JCIdent selected
+                && selected.name.contentEquals("this")) {
+            field = access.name;
+        } else {
+            return false;
+        }
+        for (VariableElement variable : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (((Symbol) variable).name == field) {
+                return (((Symbol) variable).flags() & (Flags.FINAL | Flags.STATIC)) == Flags.FINAL;
+            }
+        }
+        return false;
+    }
+
+    public TypeElement getType() {
+        return type;
+    }
+
+    /**
+     * 按声明顺序（即ordinal顺序）的枚举常量
+     */
+    public List<VariableElement> getConstants() {
+        return constants;
+    }
+
+    /**
+     * 是否为本次编译的源码中声明的枚举
+     */
+    public boolean isSource() {
+        return source;
+    }
+
+    /**
+     * 本枚举中声明的public、非static、无参数的方法，按声明顺序
+     */
+    public List<Getter> getDeclaredGetters() {
+        return declaredGetters;
+    }
+
+    /**
+     * 获取public、非static、无参数的方法，不存在时返回null
+     */
+    public Getter getGetter(Name name) {
+        return getters.get(name);
+    }
+
+    /**
+     * 枚举中的无参方法
+     *
+     * @param name       方法名
+     * @param returnType 返回值类型
+     * @param constant   是否只返回final实例字段
+     * @param method     方法元素，用于输出错误信息
+     */
+    public record Getter(Name name, Type returnType, boolean constant, ExecutableElement method) {
+    }
+
+}
@@ -0,0 +1,352 @@
+package io.github.hyuga0410.lombok.enums.processor;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * 枚举字典注册表生成
+ * <p>
+ * 通过处理器参数开启：
+ * <pre>
+ * -Alombok.enums.registry=com.example.EnumRegistry
+ * </pre>
+ * 收集本次编译中由@EnumDesc生成方法的枚举字段所引用的枚举及其属性，在收集到枚举的轮次结束时通过Filer生成
+ * （最后一轮生成的源文件javac会给出警告）：
+ * <br>
+ * - 注册表类：每个枚举的常量及属性值在注册表类初始化时计算一次，存入预分配大小的数组，按枚举类或名称查询为不可变Map的O(1)查找，无锁 <br>
+ * - 索引 {@value #INDEX}：注册表类名、枚举的二进制名、常量及属性名，运行时通过{@code ClassLoader#getResources}发现各模块的注册表，无需扫描类路径
+ * <p>
+ * 注册表依赖本次编译的全部注解元素，开启后处理器为aggregating。
+ * 生成后的轮次（其他处理器生成的源码）中新出现的枚举无法再加入注册表，在最后一轮给出警告。
+ *
+ * @since 2026/10/17
+ */
+class EnumRegistryGenerator {
+
+    /**
+     * 索引文件
+     */
+    static final String INDEX = "META-INF/lombok-enums/registry.properties";
+
+    private static final String INDENT = "    ";
+
+    private final String registryName;
+    private final String packageName;
+    private final String simpleName;
+
+    /**
+     * 按枚举全限定名排序，保证生成内容与处理顺序无关
+     */
+    private final Map<String, RegistryEntry> entries = new TreeMap<>();
+    private final Set<Element> originatingElements = new LinkedHashSet<>();
+    /**
+     * 注册表生成后新出现的枚举或属性
+     */
+    private final Set<String> missing = new TreeSet<>();
+    private boolean generated;
+
+    EnumRegistryGenerator(String registryName) {
+        this.registryName = registryName;
+        int index = registryName.lastIndexOf('.');
+        this.packageName = index < 0 ? "" : registryName.substring(0, index);
+        this.simpleName = registryName.substring(index + 1);
+    }
+
+    /**
+     * 记录枚举属性
+     *
+     * @param enumType  枚举类型
+     * @param attribute 属性名 如：desc
+     * @param getter    枚举中的get方法名 如：getDesc
+     * @param origin    引用该枚举的类
+     */
+    void add(TypeElement enumType, String attribute, String getter, TypeElement origin) {
+        if (generated) {
+            RegistryEntry entry = entries.get(enumType.getQualifiedName().toString());
+            if (entry == null || !entry.getters.containsKey(attribute)) {
+                missing.add(enumType.getQualifiedName() + "." + attribute);
+            }
+            return;
+        }
+        entries.computeIfAbsent(enumType.getQualifiedName().toString(), key -> new RegistryEntry(enumType))
+                .getters.putIfAbsent(attribute, getter);
+        originatingElements.add(origin);
+    }
+
+    /**
+     * 生成注册表类及索引
+     */
+    void generate(ProcessingEnvironment processingEnv) {
+        if (generated || entries.isEmpty()) {
+            return;
+        }
+        generated = true;
+        List<RegistryEntry> accessible = new ArrayList<>();
+        for (RegistryEntry entry : entries.values()) {
+            if (EnumDescSupport.isAccessible(entry.type, packageName)) {
+                accessible.add(entry);
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        String.format("%s在%s中不可访问，未加入枚举注册表", entry.type.getQualifiedName(), registryName), entry.type);
+            }
+        }
+
+        Filer filer = processingEnv.getFiler();
+        Element[] origins = originatingElements.toArray(new Element[0]);
+        try {
+            JavaFileObject source = filer.createSourceFile(registryName, origins);
+            try (Writer writer = source.openWriter()) {
+                writer.write(source(accessible));
+            }
+            FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX, origins);
+            try (Writer writer = index.openWriter()) {
+                writer.write(index(accessible, processingEnv));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("无法生成枚举注册表%s：%s", registryName, e));
+        }
+    }
+
+    /**
+     * 最后一轮：报告注册表生成后新出现的枚举属性
+     */
+    void finish(ProcessingEnvironment processingEnv) {
+        if (!missing.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    String.format("枚举注册表%s生成后出现的枚举属性未加入注册表：%s", registryName, String.join(", ", missing)));
+        }
+    }
+
+    private String source(List<RegistryEntry> accessible) {
+        StringBuilder out = new StringBuilder(1024);
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import java.util.HashMap;\n")
+                .append("import java.util.List;\n")
+                .append("import java.util.Map;\n\n")
+                .append("/**\n * 枚举字典注册表 由lombok-enum-component生成，请勿修改\n")
+                .append(" * 生成者：").append(EnumDescProcessor.class.getName()).append("\n */\n")
+                .append("public final class ").append(simpleName).append(" {\n\n");
+
+        // 各枚举的常量及属性值
+        out.append(INDENT).append("private static final Entry[] ENTRIES = {\n");
+        for (RegistryEntry entry : accessible) {
+            String type = entry.type.getQualifiedName().toString();
+            out.append(INDENT).append(INDENT).append("new Entry(").append(type).append(".class, new String[]{");
+            appendJoined(out, entry.getters.keySet(), true);
+            out.append("}, new Object[][]{\n");
+            for (Element constant : entry.constants()) {
+                out.append(INDENT).append(INDENT).append(INDENT).append(INDENT).append('{');
+                String separator = "";
+                for (String getter : entry.getters.values()) {
+                    out.append(separator).append(type).append('.').append(constant.getSimpleName()).append('.').append(getter).append("()");
+                    separator = ", ";
+                }
+                out.append("},\n");
+            }
+            out.append(INDENT).append(INDENT).append("}),\n");
+        }
+        out.append(INDENT).append("};\n\n");
+
+        out.append(INDENT).append("private static final List<Entry> ENTRY_LIST = List.of(ENTRIES);\n")
+                .append(INDENT).append("private static final Map<Class<?>, Entry> BY_TYPE;\n")
+                .append(INDENT).append("private static final Map<String, Entry> BY_NAME;\n\n");
+
+        // 索引：枚举类、二进制名、不重复的简单类名
+        Map<String, Integer> simpleNames = new HashMap<>();
+        for (RegistryEntry entry : accessible) {
+            simpleNames.merge(entry.type.getSimpleName().toString(), 1, Integer::sum);
+        }
+        out.append(INDENT).append("static {\n")
+                .append(INDENT).append(INDENT).append("Map<Class<?>, Entry> byType = new HashMap<>(ENTRIES.length * 2);\n")
+                .append(INDENT).append(INDENT).append("Map<String, Entry> byName = new HashMap<>(ENTRIES.length * 4);\n")
+                .append(INDENT).append(INDENT).append("for (Entry entry : ENTRIES) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("byType.put(entry.type, entry);\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("byName.put(entry.type.getName(), entry);\n")
+                .append(INDENT).append(INDENT).append("}\n");
+        for (int i = 0; i < accessible.size(); i++) {
+            String name = accessible.get(i).type.getSimpleName().toString();
+            if (simpleNames.get(name) == 1) {
+                out.append(INDENT).append(INDENT).append("byName.put(\"").append(name).append("\", ENTRIES[").append(i).append("]);\n");
+            }
+        }
+        out.append(INDENT).append(INDENT).append("BY_TYPE = Map.copyOf(byType);\n")
+                .append(INDENT).append(INDENT).append("BY_NAME = Map.copyOf(byName);\n")
+                .append(INDENT).append("}\n\n");
+
+        out.append(INDENT).append("private ").append(simpleName).append("() {\n")
+                .append(INDENT).append("}\n\n");
+
+        out.append(INDENT).append("/**\n")
+                .append(INDENT).append(" * 按枚举类获取，未注册时返回null\n")
+                .append(INDENT).append(" */\n")
+                .append(INDENT).append("public static Entry get(Class<?> type) {\n")
+                .append(INDENT).append(INDENT).append("return BY_TYPE.get(type);\n")
+                .append(INDENT).append("}\n\n");
+        out.append(INDENT).append("/**\n")
+                .append(INDENT).append(" * 按枚举的二进制名或简单类名（不重复时）获取，未注册时返回null\n")
+                .append(INDENT).append(" */\n")
+                .append(INDENT).append("public static Entry get(String name) {\n")
+                .append(INDENT).append(INDENT).append("return BY_NAME.get(name);\n")
+                .append(INDENT).append("}\n\n");
+        out.append(INDENT).append("/**\n")
+                .append(INDENT).append(" * 全部已注册的枚举，按全限定名排序\n")
+                .append(INDENT).append(" */\n")
+                .append(INDENT).append("public static List<Entry> entries() {\n")
+                .append(INDENT).append(INDENT).append("return ENTRY_LIST;\n")
+                .append(INDENT).append("}\n\n");
+
+        appendEntryClass(out);
+        out.append("}\n");
+        return out.toString();
+    }
+
+    /**
+     * 注册表条目类
+     */
+    private void appendEntryClass(StringBuilder out) {
+        String[] lines = {
+                "/**",
+                " * 单个枚举的常量及属性值",
+                " */",
+                "public static final class Entry {",
+                "",
+                "    private final Class<? extends Enum<?>> type;",
+                "    private final List<String> attributes;",
+                "    private final List<Enum<?>> constants;",
+                "    /**",
+                "     * [ordinal][属性下标]",
+                "     */",
+                "    private final Object[][] values;",
+                "",
+                "    private Entry(Class<? extends Enum<?>> type, String[] attributes, Object[][] values) {",
+                "        this.type = type;",
+                "        this.attributes = List.of(attributes);",
+                "        this.constants = List.<Enum<?>>of(type.getEnumConstants());",
+                "        this.values = values;",
+                "    }",
+                "",
+                "    public Class<? extends Enum<?>> type() {",
+                "        return type;",
+                "    }",
+                "",
+                "    public List<String> attributes() {",
+                "        return attributes;",
+                "    }",
+                "",
+                "    public List<Enum<?>> constants() {",
+                "        return constants;",
+                "    }",
+                "",
+                "    /**",
+                "     * 属性值，常量不属于该枚举或属性不存在时返回null",
+                "     */",
+                "    public Object value(Enum<?> constant, String attribute) {",
+                "        int index = attributes.indexOf(attribute);",
+                "        if (index < 0 || constant == null || constant.getDeclaringClass() != type) {",
+                "            return null;",
+                "        }",
+                "        return values[constant.ordinal()][index];",
+                "    }",
+                "",
+                "    /**",
+                "     * 属性值",
+                "     *",
+                "     * @param ordinal   常量的ordinal",
+                "     * @param attribute 属性在{@link #attributes()}中的下标",
+                "     */",
+                "    public Object value(int ordinal, int attribute) {",
+                "        return values[ordinal][attribute];",
+                "    }",
+                "",
+                "}",
+        };
+        for (String line : lines) {
+            if (!line.isEmpty()) {
+                out.append(INDENT).append(line);
+            }
+            out.append('\n');
+        }
+        out.append('\n');
+    }
+
+    private String index(List<RegistryEntry> accessible, ProcessingEnvironment processingEnv) {
+        StringBuilder out = new StringBuilder(256);
+        out.append("# generated by lombok-enum-component\n");
+        out.append("registry=").append(registryName).append('\n');
+        out.append("enums=");
+        String separator = "";
+        for (RegistryEntry entry : accessible) {
+            out.append(separator).append(processingEnv.getElementUtils().getBinaryName(entry.type));
+            separator = ",";
+        }
+        out.append('\n');
+        for (RegistryEntry entry : accessible) {
+            String binaryName = processingEnv.getElementUtils().getBinaryName(entry.type).toString();
+            out.append(binaryName).append(".constants=");
+            List<String> constants = new ArrayList<>();
+            for (Element constant : entry.constants()) {
+                constants.add(constant.getSimpleName().toString());
+            }
+            appendJoined(out, constants, false);
+            out.append('\n').append(binaryName).append(".attributes=");
+            appendJoined(out, entry.getters.keySet(), false);
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void appendJoined(StringBuilder out, Collection<String> values, boolean quoted) {
+        String separator = "";
+        for (String value : values) {
+            out.append(separator);
+            if (quoted) {
+                out.append('"').append(value).append('"');
+            } else {
+                out.append(value);
+            }
+            separator = quoted ? ", " : ",";
+        }
+    }
+
+    /**
+     * 单个枚举的注册信息
+     */
+    private static class RegistryEntry {
+
+        private final TypeElement type;
+        /**
+         * 属性名 -> get方法名，按属性名排序，与引用该枚举的类的处理顺序无关
+         */
+        private final Map<String, String> getters = new TreeMap<>();
+
+        private RegistryEntry(TypeElement type) {
+            this.type = type;
+        }
+
+        /**
+         * 按声明顺序（即ordinal顺序）的枚举常量
+         */
+        private List<Element> constants() {
+            List<Element> constants = new ArrayList<>();
+            for (Element element : type.getEnclosedElements()) {
+                if (element.getKind() == ElementKind.ENUM_CONSTANT) {
+                    constants.add(element);
+                }
+            }
+            return constants;
+        }
+
+    }
+
+}
@@ -0,0 +1,284 @@
+package io.github.hyuga0410.lombok.enums.processor;
+
+import io.github.hyuga0410.lombok.enums.constants.EnumConstants;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 处理器诊断信息
+ * <p>
+ * 通过处理器参数开启，未开启时所有记录方法直接返回：
+ * <pre>
+ * -Alombok.enums.diagnostics=true                  输出到Messager（NOTE）
+ * -Alombok.enums.diagnostics.file=build/apt.json   同时写入JSON报告（指定即开启）
+ * -Alombok.enums.diagnostics.top=10                报告中耗时最长的类的数量
+ * </pre>
+ * 记录每一轮及每个处理器的耗时、访问的元素数、生成的方法数、因已存在而跳过的方法数以及耗时最长的类，在最后一轮输出。
+ *
+ * @since 2026/10/17
+ */
+public class ProcessorDiagnostics {
+
+    /**
+     * 处理器未由AnnotationProcessor初始化时使用，未开启时不记录任何数据，可在多次编译间共用
+     */
+    static final ProcessorDiagnostics DISABLED = new ProcessorDiagnostics(false, null, 0);
+
+    private static final String PREFIX = "[lombok-enum-component] ";
+    private static final int DEFAULT_TOP = 10;
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    private final boolean enabled;
+    private final Path file;
+    private final int top;
+
+    private final Map<String, ProcessorStats> processors = new LinkedHashMap<>();
+    private final List<Map<String, Long>> rounds = new ArrayList<>();
+    private final List<ClassTiming> classes = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private long totalNanos;
+    private long bootstrapNanos;
+
+    private ProcessorDiagnostics(boolean enabled, Path file, int top) {
+        this.enabled = enabled;
+        this.file = file;
+        this.top = top;
+    }
+
+    /**
+     * 根据处理器参数创建
+     */
+    static ProcessorDiagnostics create(ProcessingEnvironment processingEnv) {
+        Map<String, String> options = processingEnv.getOptions();
+        String file = options.get(EnumConstants.DIAGNOSTICS_FILE_OPTION);
+        boolean enabled = Boolean.parseBoolean(options.get(EnumConstants.DIAGNOSTICS_OPTION)) || file != null;
+        if (!enabled) {
+            return new ProcessorDiagnostics(false, null, 0);
+        }
+        return new ProcessorDiagnostics(true, file == null ? null : Path.of(file),
+                parseTop(options.get(EnumConstants.DIAGNOSTICS_TOP_OPTION), processingEnv.getMessager()));
+    }
+
+    /**
+     * 解析耗时最长的类的数量，不是正整数时输出警告并使用默认值
+     */
+    private static int parseTop(String top, Messager messager) {
+        if (top == null) {
+            return DEFAULT_TOP;
+        }
+        try {
+            int value = Integer.parseInt(top.trim());
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // 按默认值处理
+        }
+        messager.printMessage(Diagnostic.Kind.WARNING, String.format("%s%s=%s 不是正整数，使用默认值%d",
+                PREFIX, EnumConstants.DIAGNOSTICS_TOP_OPTION, top, DEFAULT_TOP));
+        return DEFAULT_TOP;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 启动耗时：开放jdk.compiler内部包及初始化处理器，各处理器分别启动时累加
+     */
+    void bootstrapFinished(long nanos) {
+        if (enabled) {
+            bootstrapNanos += nanos;
+            totalNanos += nanos;
+        }
+    }
+
+    /**
+     * 开始新的一轮
+     */
+    void roundStarted() {
+        if (enabled) {
+            rounds.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * 处理器在本轮的耗时
+     */
+    void processorFinished(AgentProcessor processor, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        String name = processor.getClass().getSimpleName();
+        stats(name).nanos += nanos;
+        rounds.get(rounds.size() - 1).merge(name, nanos, Long::sum);
+        totalNanos += nanos;
+    }
+
+    /**
+     * 访问的注解元素
+     */
+    public void elementsVisited(AgentProcessor processor, int count) {
+        if (enabled) {
+            stats(processor.getClass().getSimpleName()).elements += count;
+        }
+    }
+
+    /**
+     * 生成的方法
+     */
+    public void methodGenerated(AgentProcessor processor) {
+        if (enabled) {
+            stats(processor.getClass().getSimpleName()).generated++;
+        }
+    }
+
+    /**
+     * 已存在同名方法而跳过生成
+     */
+    public void methodSkipped(AgentProcessor processor) {
+        if (enabled) {
+            stats(processor.getClass().getSimpleName()).skipped++;
+        }
+    }
+
+    /**
+     * 单个类的处理耗时
+     */
+    public void classProcessed(AgentProcessor processor, CharSequence className, long nanos) {
+        if (enabled) {
+            classes.add(new ClassTiming(className.toString(), processor.getClass().getSimpleName(), nanos));
+        }
+    }
+
+    /**
+     * 处理器启动过程中的错误，无论是否开启诊断均立即输出警告，开启诊断时记录到报告中
+     */
+    void error(Messager messager, String message) {
+        messager.printMessage(Diagnostic.Kind.WARNING, PREFIX + message);
+        if (enabled) {
+            errors.add(message);
+        }
+    }
+
+    /**
+     * 输出诊断信息
+     */
+    void report(Messager messager) {
+        if (!enabled) {
+            return;
+        }
+
+        List<ClassTiming> slowest = slowestClasses();
+        messager.printMessage(Diagnostic.Kind.NOTE, String.format("%srounds=%d, total=%.3fms, bootstrap=%.3fms",
+                PREFIX, rounds.size(), totalNanos / NANOS_PER_MILLI, bootstrapNanos / NANOS_PER_MILLI));
+        processors.forEach((name, stats) -> messager.printMessage(Diagnostic.Kind.NOTE,
+                String.format("%s%s: time=%.3fms, elements=%d, generated=%d, skipped=%d",
+                        PREFIX, name, stats.nanos / NANOS_PER_MILLI, stats.elements, stats.generated, stats.skipped)));
+        for (ClassTiming timing : slowest) {
+            messager.printMessage(Diagnostic.Kind.NOTE, String.format("%sslowest: %s (%s) %.3fms",
+                    PREFIX, timing.name, timing.processor, timing.nanos / NANOS_PER_MILLI));
+        }
+
+        if (file == null) {
+            return;
+        }
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            Files.writeString(file, toJson(slowest), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.WARNING, PREFIX + "无法写入诊断报告" + file + "：" + e.getMessage());
+        }
+    }
+
+    private List<ClassTiming> slowestClasses() {
+        List<ClassTiming> sorted = new ArrayList<>(classes);
+        sorted.sort(Comparator.comparingLong((ClassTiming timing) -> timing.nanos).reversed()
+                .thenComparing(timing -> timing.name));
+        return sorted.subList(0, Math.min(top, sorted.size()));
+    }
+
+    private String toJson(List<ClassTiming> slowest) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"totalNanos\": ").append(totalNanos).append(",\n");
+        json.append("  \"bootstrapNanos\": ").append(bootstrapNanos).append(",\n");
+
+        json.append("  \"rounds\": [");
+        for (int i = 0; i < rounds.size(); i++) {
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"round\": ").append(i + 1).append(", \"processors\": {");
+            Iterator<Map.Entry<String, Long>> iterator = rounds.get(i).entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                json.append('"').append(entry.getKey()).append("\": ").append(entry.getValue()).append(iterator.hasNext() ? ", " : "");
+            }
+            json.append("}}");
+        }
+        json.append("\n  ],\n");
+
+        json.append("  \"processors\": [");
+        Iterator<Map.Entry<String, ProcessorStats>> iterator = processors.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ProcessorStats> entry = iterator.next();
+            ProcessorStats stats = entry.getValue();
+            json.append("\n    {\"name\": \"").append(entry.getKey()).append('"')
+                    .append(", \"nanos\": ").append(stats.nanos)
+                    .append(", \"elements\": ").append(stats.elements)
+                    .append(", \"generated\": ").append(stats.generated)
+                    .append(", \"skipped\": ").append(stats.skipped)
+                    .append('}').append(iterator.hasNext() ? "," : "");
+        }
+        json.append("\n  ],\n");
+
+        json.append("  \"slowestClasses\": [");
+        for (int i = 0; i < slowest.size(); i++) {
+            ClassTiming timing = slowest.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"name\": \"").append(escape(timing.name))
+                    .append("\", \"processor\": \"").append(timing.processor)
+                    .append("\", \"nanos\": ").append(timing.nanos).append('}');
+        }
+        json.append("\n  ],\n");
+
+        json.append("  \"errors\": [");
+        for (int i = 0; i < errors.size(); i++) {
+            json.append(i == 0 ? "" : ", ").append('"').append(escape(errors.get(i))).append('"');
+        }
+        json.append("]\n}\n");
+        return json.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private ProcessorStats stats(String processor) {
+        return processors.computeIfAbsent(processor, key -> new ProcessorStats());
+    }
+
+    /**
+     * 单个处理器的统计
+     */
+    private static class ProcessorStats {
+
+        private long nanos;
+        private long elements;
+        private long generated;
+        private long skipped;
+
+    }
+
+    /**
+     * 单个类的耗时
+     */
+    private record ClassTiming(String name, String processor, long nanos) {
+    }
+
+}
@@ -7,4 +7,10 @@ module commons {
     exports io.github.hyuga0410.lombok.enums.annotations;
     exports io.github.hyuga0410.lombok.enums.constants;
 
+    uses io.github.hyuga0410.lombok.enums.processor.AgentProcessor;
+
+    provides io.github.hyuga0410.lombok.enums.processor.AgentProcessor with
+            io.github.hyuga0410.lombok.enums.processor.EnumDescProcessor,
+            io.github.hyuga0410.lombok.enums.processor.EnumLookupProcessor;
+
 }
\ No newline at end of file